@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.batch.runtime.context.JobContext;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Generated datasets of stock trades for benchmarks, in all formats supported by the benchmarked item readers. Each
+ * data item has columns {@link #HEADER}, and the dataset of each size is generated once per JVM, into a temporary
+ * directory and an in-memory H2 database.
+ */
+final class BenchmarkData {
+    static final String[] HEADER = {"Date", "Time", "Open", "High", "Low", "Close", "Volume"};
+
+    /**
+     * CSV schema for {@code JacksonCsvItemReader} and {@code JacksonCsvItemWriter}.
+     */
+    static final String JACKSON_CSV_COLUMNS =
+            "Date STRING, Time STRING, Open NUMBER, High NUMBER, Low NUMBER, Close NUMBER, Volume NUMBER";
+
+    static final String JDBC_URL = "jdbc:h2:mem:jberet-benchmark;DB_CLOSE_DELAY=-1";
+    static final String JDBC_OUTPUT_TABLE = "TRADE_OUT";
+    static final String JDBC_COLUMNS = "TRADEDATE, TRADETIME, OPEN, HIGH, LOW, CLOSE, VOLUME";
+    static final String[] JDBC_PARAMETER_TYPES = {"String", "String", "Double", "Double", "Double", "Double", "Long"};
+
+    static final String BEANIO_MAPPING = "trade-beanio-mapping.xml";
+    static final String BEANIO_STREAM = "trades";
+
+    /**
+     * Maximum data rows in a binary Excel (.xls) worksheet, excluding the header row.
+     */
+    private static final int MAX_XLS_ROWS = 65535;
+
+    /**
+     * Trading minutes per day, from 09:30 to 16:00.
+     */
+    private static final int MINUTES_PER_DAY = 390;
+
+    private static final Map<Integer, BenchmarkData> datasets = new HashMap<Integer, BenchmarkData>();
+
+    /**
+     * Job context for BeanIO readers and writers, which cache their {@code StreamFactory} per job.
+     */
+    static final JobContext jobContext = (JobContext) Proxy.newProxyInstance(
+            BenchmarkData.class.getClassLoader(), new Class<?>[]{JobContext.class}, new InvocationHandler() {
+                @Override
+                public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("toString")) {
+                        return "BenchmarkJobContext";
+                    }
+                    return null;
+                }
+            });
+
+    final int rows;
+    final File dir;
+    final File csv;
+    final File headerlessCsv;
+    final File json;
+    final File xml;
+    final File xlsx;
+    final File xls;
+    final String jdbcTable;
+
+    private BenchmarkData(final int rows) throws Exception {
+        this.rows = rows;
+        dir = File.createTempFile("jberet-benchmark-", "");
+        if (!dir.delete() || !dir.mkdir()) {
+            throw new IOException("Failed to create directory " + dir);
+        }
+        dir.deleteOnExit();
+        csv = newFile("trades.csv");
+        headerlessCsv = newFile("trades-headerless.csv");
+        json = newFile("trades.json");
+        xml = newFile("trades.xml");
+        xlsx = newFile("trades.xlsx");
+        xls = newFile("trades.xls");
+        jdbcTable = "TRADE_" + rows;
+
+        writeCsv(csv, true);
+        writeCsv(headerlessCsv, false);
+        writeJson();
+        writeXml();
+        writeExcel(new SXSSFWorkbook(), xlsx, rows);
+        writeExcel(new HSSFWorkbook(), xls, Math.min(rows, MAX_XLS_ROWS));
+        writeTables();
+    }
+
+    /**
+     * Gets the dataset of the specified size, generating it on first use.
+     *
+     * @param rows number of data items
+     * @return the dataset
+     * @throws Exception if failed to generate the dataset
+     */
+    static synchronized BenchmarkData get(final int rows) throws Exception {
+        BenchmarkData data = datasets.get(rows);
+        if (data == null) {
+            data = new BenchmarkData(rows);
+            datasets.put(rows, data);
+        }
+        return data;
+    }
+
+    /**
+     * Creates data items of type {@code java.util.Map}, keyed by {@link #HEADER}, for item writers.
+     *
+     * @param count number of data items
+     * @return data items
+     */
+    static List<Object> items(final int count) {
+        final List<Object> items = new ArrayList<Object>(count);
+        for (int i = 0; i < count; i++) {
+            final Map<String, Object> item = new LinkedHashMap<String, Object>();
+            final Object[] values = values(i);
+            for (int j = 0; j < HEADER.length; j++) {
+                item.put(HEADER[j], values[j]);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    File newFile(final String name) {
+        final File file = new File(dir, name);
+        file.deleteOnExit();
+        return file;
+    }
+
+    static Connection getConnection() throws Exception {
+        return DriverManager.getConnection(JDBC_URL);
+    }
+
+    private static Object[] values(final int i) {
+        final int day = i / MINUTES_PER_DAY;
+        final int minute = 9 * 60 + 30 + i % MINUTES_PER_DAY;
+        final double open = 100 + (i % 997) / 100.0;
+        return new Object[]{
+                String.format("%04d-%02d-%02d", 1998 + day / 336, day / 28 % 12 + 1, day % 28 + 1),
+                String.format("%02d:%02d", minute / 60, minute % 60),
+                open, open + 0.25, open - 0.25, open + 0.125, (long) (i % 5000) * 10 + 100};
+    }
+
+    private void writeCsv(final File file, final boolean header) throws IOException {
+        final Writer writer = newWriter(file);
+        try {
+            if (header) {
+                writer.write(String.join(",", HEADER));
+                writer.write('\n');
+            }
+            for (int i = 0; i < rows; i++) {
+                final Object[] values = values(i);
+                for (int j = 0; j < values.length; j++) {
+                    if (j > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(String.valueOf(values[j]));
+                }
+                writer.write('\n');
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeJson() throws IOException {
+        final Writer writer = newWriter(json);
+        try {
+            writer.write("[\n");
+            for (int i = 0; i < rows; i++) {
+                final Object[] values = values(i);
+                writer.write('{');
+                for (int j = 0; j < values.length; j++) {
+                    if (j > 0) {
+                        writer.write(',');
+                    }
+                    writer.write('"' + HEADER[j] + "\":");
+                    writer.write(values[j] instanceof String ? '"' + (String) values[j] + '"' : String.valueOf(values[j]));
+                }
+                writer.write(i < rows - 1 ? "},\n" : "}\n");
+            }
+            writer.write("]\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void writeXml() throws IOException {
+        final Writer writer = newWriter(xml);
+        try {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<trades>\n");
+            for (int i = 0; i < rows; i++) {
+                final Object[] values = values(i);
+                writer.write("<trade>");
+                for (int j = 0; j < values.length; j++) {
+                    writer.write('<' + HEADER[j] + '>' + values[j] + "</" + HEADER[j] + '>');
+                }
+                writer.write("</trade>\n");
+            }
+            writer.write("</trades>\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void writeExcel(final Workbook workbook, final File file, final int rows) throws IOException {
+        final OutputStream outputStream = new FileOutputStream(file);
+        try {
+            final Sheet sheet = workbook.createSheet("trades");
+            final Row headerRow = sheet.createRow(0);
+            for (int j = 0; j < HEADER.length; j++) {
+                headerRow.createCell(j).setCellValue(HEADER[j]);
+            }
+            for (int i = 0; i < rows; i++) {
+                final Object[] values = values(i);
+                final Row row = sheet.createRow(i + 1);
+                for (int j = 0; j < values.length; j++) {
+                    if (values[j] instanceof Number) {
+                        row.createCell(j).setCellValue(((Number) values[j]).doubleValue());
+                    } else {
+                        row.createCell(j).setCellValue((String) values[j]);
+                    }
+                }
+            }
+            workbook.write(outputStream);
+        } finally {
+            outputStream.close();
+            if (workbook instanceof SXSSFWorkbook) {
+                ((SXSSFWorkbook) workbook).dispose();
+            }
+            workbook.close();
+        }
+    }
+
+    private void writeTables() throws Exception {
+        final Connection connection = getConnection();
+        try {
+            final Statement statement = connection.createStatement();
+            for (final String table : new String[]{jdbcTable, JDBC_OUTPUT_TABLE}) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (TRADEDATE DATE, TRADETIME VARCHAR(5), " +
+                        "OPEN DOUBLE, HIGH DOUBLE, LOW DOUBLE, CLOSE DOUBLE, VOLUME BIGINT)");
+            }
+            statement.close();
+
+            final PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + jdbcTable + " (" + JDBC_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)");
+            for (int i = 0; i < rows; i++) {
+                final Object[] values = values(i);
+                for (int j = 0; j < values.length; j++) {
+                    insert.setObject(j + 1, values[j]);
+                }
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            insert.close();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static Writer newWriter(final File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.batch.api.chunk.ItemReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@code readItem()} of item readers, reading {@link BenchmarkData} of {@link #rows} data
+ * items as {@code java.util.Map}. When the reader reaches the end of the data, it is closed and opened again, so the
+ * cost of {@code open()} and {@code close()} is amortized over {@link #rows}.
+ * <p>
+ * Run with the {@code benchmark} maven profile, and add JMH option {@code -prof gc} (the default in the profile) to
+ * also report allocation rate per operation, for example:
+ * <pre>
+ * mvn verify -Dbenchmark -Dbenchmark.args="ItemReaderBenchmark -p format=csv,jacksonCsv -p rows=100000 -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemReaderBenchmark {
+    @Param({"csv", "jacksonCsv", "json", "xml", "beanIO", "excelUserModel", "excelStreaming", "excelEvent", "jdbc"})
+    public String format;
+
+    /**
+     * Number of data items in the dataset. Binary Excel (.xls) datasets for {@code excelEvent} are limited to 65535
+     * data items.
+     */
+    @Param("10000")
+    public int rows;
+
+    private BenchmarkData data;
+
+    private ItemReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        data = BenchmarkData.get(rows);
+        reader = openReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        reader.close();
+    }
+
+    @Benchmark
+    public Object readItem() throws Exception {
+        Object item = reader.readItem();
+        if (item == null) {
+            reader.close();
+            reader = openReader();
+            item = reader.readItem();
+        }
+        return item;
+    }
+
+    private ItemReader openReader() throws Exception {
+        final ItemReader result;
+        if (format.equals("csv")) {
+            final CsvItemReader r = new CsvItemReader();
+            r.resource = data.csv.getPath();
+            r.beanType = Map.class;
+            result = r;
+        } else if (format.equals("jacksonCsv")) {
+            final JacksonCsvItemReader r = new JacksonCsvItemReader();
+            r.resource = data.csv.getPath();
+            r.beanType = Map.class;
+            r.columns = BenchmarkData.JACKSON_CSV_COLUMNS;
+            r.useHeader = true;
+            result = r;
+        } else if (format.equals("json")) {
+            final JsonItemReader r = new JsonItemReader();
+            r.resource = data.json.getPath();
+            r.beanType = Map.class;
+            result = r;
+        } else if (format.equals("xml")) {
+            final XmlItemReader r = new XmlItemReader();
+            r.resource = data.xml.getPath();
+            r.beanType = Map.class;
+            result = r;
+        } else if (format.equals("beanIO")) {
+            final BeanIOItemReader r = new BeanIOItemReader();
+            r.resource = data.headerlessCsv.getPath();
+            r.streamName = BenchmarkData.BEANIO_STREAM;
+            r.streamMapping = BenchmarkData.BEANIO_MAPPING;
+            r.jobContext = BenchmarkData.jobContext;
+            result = r;
+        } else if (format.equals("excelUserModel") || format.equals("excelStreaming") || format.equals("excelEvent")) {
+            final ExcelUserModelItemReader r;
+            if (format.equals("excelEvent")) {
+                r = new ExcelEventItemReader();
+                r.resource = data.xls.getPath();
+            } else {
+                r = format.equals("excelStreaming") ? new ExcelStreamingItemReader() : new ExcelUserModelItemReader();
+                r.resource = data.xlsx.getPath();
+            }
+            r.beanType = Map.class;
+            r.headerRow = 0;
+            result = r;
+        } else if (format.equals("jdbc")) {
+            final JdbcItemReader r = new JdbcItemReader();
+            r.url = BenchmarkData.JDBC_URL;
+            r.sql = "SELECT " + BenchmarkData.JDBC_COLUMNS + " FROM " + data.jdbcTable;
+            r.beanType = Map.class;
+            result = r;
+        } else {
+            throw new IllegalArgumentException(format);
+        }
+        result.open(null);
+        return result;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.batch.api.chunk.ItemWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.jberet.support.io.CsvProperties.OVERWRITE;
+
+/**
+ * Measures the throughput of {@code writeItems(List)} of item writers, each operation writing a chunk of
+ * {@link #chunkSize} data items of type {@code java.util.Map}, so the number of data items written per millisecond
+ * is the reported score multiplied by {@link #chunkSize}. After every {@link #rows} data items, the writer is closed
+ * and opened again to overwrite its output, so the output size stays bounded, and the cost of {@code open()} and
+ * {@code close()} is amortized over {@link #rows}.
+ * <p>
+ * Run with the {@code benchmark} maven profile, for example:
+ * <pre>
+ * mvn verify -Dbenchmark -Dbenchmark.args="ItemWriterBenchmark -p format=json,xml -p chunkSize=1000 -prof gc"
+ * </pre>
+ * To compare {@link JdbcItemWriter} with and without {@link JdbcItemWriter#reuseConnection}:
+ * <pre>
+ * mvn verify -Dbenchmark -Dbenchmark.args="ItemWriterBenchmark -p format=jdbc"
+ * </pre>
+ *
+ * @see ItemReaderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemWriterBenchmark {
+    @Param({"csv", "jacksonCsv", "json", "xml", "beanIO", "excelUserModel", "excelStreaming", "jdbc"})
+    public String format;
+
+    @Param("100")
+    public int chunkSize;
+
+    /**
+     * Number of data items written before the writer is closed and opened again.
+     */
+    @Param("10000")
+    public int rows;
+
+    /**
+     * Value of {@link JdbcItemWriter#reuseConnection} for {@code jdbc} format, and ignored by other formats.
+     */
+    @Param({"false", "true"})
+    public boolean reuseConnection;
+
+    private BenchmarkData data;
+
+    private List<Object> chunk;
+
+    private ItemWriter writer;
+
+    private int written;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        data = BenchmarkData.get(rows);
+        chunk = BenchmarkData.items(chunkSize);
+        writer = openWriter();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        writer.close();
+    }
+
+    @Benchmark
+    public void writeItems() throws Exception {
+        if (written >= rows) {
+            writer.close();
+            writer = openWriter();
+            written = 0;
+        }
+        writer.writeItems(chunk);
+        written += chunk.size();
+    }
+
+    private ItemWriter openWriter() throws Exception {
+        final ItemWriter result;
+        if (format.equals("csv")) {
+            final CsvItemWriter w = new CsvItemWriter();
+            w.resource = data.newFile("output.csv").getPath();
+            w.beanType = Map.class;
+            w.header = BenchmarkData.HEADER;
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("jacksonCsv")) {
+            final JacksonCsvItemWriter w = new JacksonCsvItemWriter();
+            w.resource = data.newFile("output.csv").getPath();
+            w.beanType = Map.class;
+            w.columns = BenchmarkData.JACKSON_CSV_COLUMNS;
+            w.useHeader = true;
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("json")) {
+            final JsonItemWriter w = new JsonItemWriter();
+            w.resource = data.newFile("output.json").getPath();
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("xml")) {
+            final XmlItemWriter w = new XmlItemWriter();
+            w.resource = data.newFile("output.xml").getPath();
+            w.rootElementName = "trades";
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("beanIO")) {
+            final BeanIOItemWriter w = new BeanIOItemWriter();
+            w.resource = data.newFile("output.csv").getPath();
+            w.streamName = BenchmarkData.BEANIO_STREAM;
+            w.streamMapping = BenchmarkData.BEANIO_MAPPING;
+            w.jobContext = BenchmarkData.jobContext;
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("excelUserModel") || format.equals("excelStreaming")) {
+            final ExcelUserModelItemWriter w = format.equals("excelStreaming") ?
+                    new ExcelStreamingItemWriter() : new ExcelUserModelItemWriter();
+            w.resource = data.newFile("output.xlsx").getPath();
+            w.beanType = Map.class;
+            w.header = BenchmarkData.HEADER;
+            w.writeMode = OVERWRITE;
+            result = w;
+        } else if (format.equals("jdbc")) {
+            final Connection connection = BenchmarkData.getConnection();
+            try {
+                final Statement statement = connection.createStatement();
+                statement.execute("TRUNCATE TABLE " + BenchmarkData.JDBC_OUTPUT_TABLE);
+                statement.close();
+            } finally {
+                connection.close();
+            }
+            final JdbcItemWriter w = new JdbcItemWriter();
+            w.url = BenchmarkData.JDBC_URL;
+            w.sql = "INSERT INTO " + BenchmarkData.JDBC_OUTPUT_TABLE + " (" + BenchmarkData.JDBC_COLUMNS +
+                    ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+            w.beanType = Map.class;
+            w.parameterNames = BenchmarkData.HEADER;
+            w.parameterTypes = BenchmarkData.JDBC_PARAMETER_TYPES;
+            w.reuseConnection = reuseConnection;
+            result = w;
+        } else {
+            throw new IllegalArgumentException(format);
+        }
+        result.open(null);
+        return result;
+    }
+}
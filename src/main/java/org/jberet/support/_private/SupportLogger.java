@@ -73,6 +73,22 @@ public interface SupportLogger extends BasicLogger {
     @LogMessage(level = Logger.Level.WARN)
     void failToClose(@Cause Throwable throwable, String resource);
 
+    @Message(id = 60512, value = "Failed to publish metrics %s to sink %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToPublishMetrics(@Cause Throwable throwable, String metrics, String sink);
+
+    @Message(id = 60513, value = "Failed to write item %s in the current chunk, error code %s: %s, item: %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToWriteItem(int index, int errorCode, String errorMessage, Object item);
+
+    @Message(id = 60514, value = "Failed to write item %s in the current chunk: %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToWriteItem(@Cause Throwable throwable, int index, Object item);
+
+    @Message(id = 60515, value = "Failed to write %s items starting from item %s in the current chunk")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToWriteItems(@Cause Throwable throwable, int count, int index);
+
 
 
 }
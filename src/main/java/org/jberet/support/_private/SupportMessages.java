@@ -97,4 +97,13 @@ public interface SupportMessages {
     @Message(id = 60026, value = "Directory %s is invalid.")
     BatchRuntimeException invalidDirectory(String dir);
 
+    @Message(id = 60027, value = "Failed to send %d of %d Kafka records in the current chunk")
+    BatchRuntimeException failToSendKafkaRecords(@Cause Throwable throwable, int failedCount, int totalCount);
+
+    @Message(id = 60028, value = "Data item has no value for id field %s: %s")
+    BatchRuntimeException missingIdValue(String idField, Object item);
+
+    @Message(id = 60029, value = "Failed to write %d of %d items in the current chunk")
+    BatchRuntimeException failToWriteItems(@Cause Throwable throwable, int failedCount, int totalCount);
+
 }
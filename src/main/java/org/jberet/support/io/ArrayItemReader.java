@@ -86,8 +86,20 @@ public class ArrayItemReader extends JsonItemReader {
         if (values == null || rowNumber >= values.length || rowNumber > end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         Object obj = values[rowNumber++];
         SupportLogger.LOGGER.tracef("Read type %s, value %s%n", obj.getClass(), obj);
-        return obj;
+        return itemRead(startTime, obj);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * All values are loaded when this reader is opened, so the checkpoint is always the row number, even if
+     * {@link #checkpointByteOffset} is set.
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        return rowNumber;
     }
 }
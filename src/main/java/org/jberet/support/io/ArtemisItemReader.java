@@ -11,15 +11,22 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Map;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.client.ClientConsumer;
 import org.apache.activemq.artemis.api.core.client.ClientMessage;
+import org.apache.activemq.artemis.api.core.client.ClientSession;
+import org.apache.activemq.artemis.api.core.client.ClientSessionFactory;
 import org.jberet.support._private.SupportLogger;
 
 /**
@@ -31,10 +38,15 @@ import org.jberet.support._private.SupportLogger;
  * is immediately returned as is from {@link #readItem()}
  * <li>if the message type is {@code org.apache.activemq.artemis.api.core.client.ClientMessage#TEXT_TYPE}, the string text is
  * returned from {@link #readItem()};
- * <li>otherwise, a byte array is retrieved from the message body buffer, deserialize to an object, and returned
- * from {@link #readItem()}
+ * <li>if {@link #codec} is specified, and the message type is
+ * {@code org.apache.activemq.artemis.api.core.client.ClientMessage#BYTES_TYPE}, the message body is decoded with the
+ * codec into {@link #beanType}, and returned from {@link #readItem()};
+ * <li>otherwise, the message body is deserialized to an object, and returned from {@link #readItem()}
  * </ul>
  * <p>
+ * The message body is read or decoded directly from a {@code java.nio.ByteBuffer} view of the message body buffer,
+ * without copying it into a new byte array for each message.
+ * <p>
  * This reader ends when either of the following occurs:
  * <p>
  * <ul>
@@ -42,6 +54,8 @@ import org.jberet.support._private.SupportLogger;
  * <li>the size of the incoming message body is 0;
  * </ul>
  * <p>
+ * For high-rate queues, {@link #consumerWindowSize} and {@link #receiveBatchSize} can be tuned to receive messages in
+ * batches, and {@link #acknowledgePerChunk} to acknowledge messages once per chunk.
  *
  * @see     ArtemisItemWriter
  * @see     ArtemisItemReaderWriterBase
@@ -65,46 +79,111 @@ public class ArtemisItemReader extends ArtemisItemReaderWriterBase implements It
      * <p>
      * <ul>
      * <li>{@code org.apache.activemq.artemis.api.core.client.ClientMessage}: an incoming Artemis message is returned as is.
+     * <li>any type supported by {@link #codec}, if {@link #codec} is specified: the body of an incoming
+     * {@code BYTES_TYPE} message is decoded into this type.
      * </ul>
      * <p>
      * When this property is not specified, {@link #readItem()} method returns an object whose actual type is
-     * determined by the incoming Artemis message type.
+     * determined by the incoming Artemis message type, and {@code BYTES_TYPE} message is decoded into
+     * {@code java.util.Map}.
      */
     @Inject
     @BatchProperty
     protected Class beanType;
 
+    /**
+     * The size in bytes of the consumer window, i.e., the messages the server may send ahead to the consumer buffer
+     * before they are received. Optional property, and defaults to the consumer window size of the
+     * {@code ServerLocator} (1 MiB by default). For high-rate queues, a larger window, e.g., enough for a few chunks of
+     * messages, lets the server stream messages without waiting for the consumer to request more credits. A value of
+     * -1 means an unbounded window.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int consumerWindowSize;
+
+    /**
+     * Maximum number of messages to receive at a time. Optional property, and defaults to 0 (one message is received
+     * for each data item). If greater than 1, after a message is received within {@link #receiveTimeout}, up to
+     * {@code receiveBatchSize - 1} more messages that are already in the consumer buffer are received with
+     * {@code org.apache.activemq.artemis.api.core.client.ClientConsumer#receiveImmediate()} into a local buffer, and
+     * subsequent data items are read from the local buffer.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int receiveBatchSize;
+
+    /**
+     * Whether to acknowledge messages once per chunk. Optional property, and defaults to false (messages are not
+     * acknowledged by this reader). If true, the session is created without auto-committing acknowledgements, and in
+     * {@link #checkpointInfo()}, after the data items of the chunk have been written, the last message read is
+     * acknowledged, which also acknowledges all messages read before it, and the acknowledgements are committed, for
+     * at-least-once delivery. Messages received into the local buffer but not yet read are not acknowledged.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean acknowledgePerChunk;
+
     protected ClientConsumer consumer;
 
+    /**
+     * Messages received but not yet read, when {@link #receiveBatchSize} is greater than 1.
+     */
+    private final ArrayDeque<ClientMessage> receivedMessages = new ArrayDeque<ClientMessage>();
+
+    /**
+     * The last message read that is not yet acknowledged.
+     */
+    private ClientMessage unacknowledgedMessage;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         super.open(checkpoint);
-        consumer = session.createConsumer(queueName);
+        consumer = consumerWindowSize == 0 ? session.createConsumer(queueName) :
+                session.createConsumer(queueName, null, consumerWindowSize, -1, false);
         session.start();
     }
 
     @Override
     public Object readItem() throws Exception {
         final Object result;
-        final ClientMessage message = consumer.receive(receiveTimeout);
+        final long startTime = metricsStartTime();
+        final ClientMessage message = receive();
         if (message == null) {  //no more messages after receiveTimeout
             return null;
         }
+        if (acknowledgePerChunk) {
+            unacknowledgedMessage = message;
+        }
 
         final int bodySize = message.getBodySize();
         if (bodySize == 0) {
             return null;
         }
+        if (metrics != null) {
+            metrics.addBytes(bodySize);
+        }
 
         if (beanType == ClientMessage.class) {
-            return message;
+            return itemRead(startTime, message);
         }
 
         final byte messageType = message.getType();
-        final byte[] bytes = new byte[bodySize];
-        message.getBodyBuffer().readBytes(bytes);
+        final ActiveMQBuffer bodyBuffer = message.getBodyBuffer();
+        final ByteBuffer bytes = bodyBuffer.toByteBuffer(bodyBuffer.readerIndex(), bodySize);
         if (messageType == ClientMessage.TEXT_TYPE) {
-            result = new String(bytes);
+            result = Charset.defaultCharset().decode(bytes).toString();
+        } else if (itemCodec != null && messageType == ClientMessage.BYTES_TYPE) {
+            result = itemCodec.decode(bytes, beanType == null ? Map.class : beanType);
+            if (!skipBeanValidation) {
+                ItemReaderWriterBase.validate(result);
+            }
         } else {
             result = bytesToSerializableObject(bytes);
             if (!skipBeanValidation) {
@@ -112,11 +191,29 @@ public class ArtemisItemReader extends ArtemisItemReaderWriterBase implements It
             }
         }
 
-        return result;
+        return itemRead(startTime, result);
+    }
+
+    /**
+     * Acknowledges the last message read, and commits the acknowledgements, if {@link #acknowledgePerChunk} is true.
+     *
+     * @return null
+     * @throws Exception if failed to acknowledge or commit
+     */
+    @Override
+    public Serializable checkpointInfo() throws Exception {
+        if (unacknowledgedMessage != null) {
+            unacknowledgedMessage.acknowledge();
+            session.commit();
+            unacknowledgedMessage = null;
+        }
+        return null;
     }
 
     @Override
     public void close() {
+        receivedMessages.clear();
+        unacknowledgedMessage = null;
         super.close();
         if (consumer != null) {
             try {
@@ -127,4 +224,33 @@ public class ArtemisItemReader extends ArtemisItemReaderWriterBase implements It
             consumer = null;
         }
     }
+
+    /**
+     * Creates the session without auto-committing acknowledgements if {@link #acknowledgePerChunk} is true.
+     */
+    @Override
+    protected ClientSession createSession(final ClientSessionFactory sessionFactory) throws ActiveMQException {
+        return acknowledgePerChunk ? sessionFactory.createSession(true, false) : super.createSession(sessionFactory);
+    }
+
+    /**
+     * Receives the next message, either from the consumer, or from the local buffer when {@link #receiveBatchSize}
+     * is greater than 1.
+     *
+     * @return the next message, or null if no message arrives within {@link #receiveTimeout}
+     * @throws ActiveMQException if failed to receive
+     */
+    private ClientMessage receive() throws ActiveMQException {
+        if (receiveBatchSize <= 1) {
+            return consumer.receive(receiveTimeout);
+        }
+        if (receivedMessages.isEmpty()) {
+            ClientMessage message = consumer.receive(receiveTimeout);
+            while (message != null) {
+                receivedMessages.add(message);
+                message = receivedMessages.size() < receiveBatchSize ? consumer.receiveImmediate() : null;
+            }
+        }
+        return receivedMessages.poll();
+    }
 }
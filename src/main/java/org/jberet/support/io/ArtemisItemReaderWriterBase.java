@@ -17,11 +17,13 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import javax.batch.api.BatchProperty;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.SimpleString;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
@@ -146,19 +148,46 @@ public abstract class ArtemisItemReaderWriterBase extends ItemReaderWriterBase {
     @BatchProperty
     protected Class sendAcknowledgementHandler;
 
+    /**
+     * The fully-qualified class name of the {@link ItemCodec} implementation to encode data items into, and decode
+     * data items from, the body buffer of {@code org.apache.activemq.artemis.api.core.client.ClientMessage#BYTES_TYPE}
+     * messages. Optional property, and defaults to null (data items are sent and received as text or serialized
+     * objects). Built-in implementations are {@link JsonItemCodec} and {@link SmileItemCodec}.
+     * {@link ArtemisItemReader} and {@link ArtemisItemWriter} of the same queue should use the same codec.
+     * <p>
+     * An example of this property in job xml:
+     * <p>
+     * &lt;property name="codec" value="org.jberet.support.io.SmileItemCodec"/&gt;
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected Class codec;
+
     protected SimpleString queueAddress;
     protected SimpleString queueName;
     protected ServerLocator serverLocator;
     protected ClientSessionFactory sessionFactory;
     protected ClientSession session;
 
+    /**
+     * The {@link ItemCodec} instance created from {@link #codec}, or null if {@link #codec} is not specified.
+     */
+    protected ItemCodec itemCodec;
+
     private boolean toCloseServerLocator;
     private boolean toCloseSessionFactory;
 
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         if (queueParams == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "queueParams");
         }
+        if (codec != null) {
+            final Class<?> codecClass = codec;
+            itemCodec = (ItemCodec) codecClass.getDeclaredConstructor().newInstance();
+        }
         queueAddress = SimpleString.toSimpleString((String) queueParams.get(QUEUE_ADDRESS_KEY));
         queueName = SimpleString.toSimpleString((String) queueParams.get(QUEUE_NAME_KEY));
         if (queueName == null) {
@@ -207,7 +236,7 @@ public abstract class ArtemisItemReaderWriterBase extends ItemReaderWriterBase {
             toCloseSessionFactory = true;
         }
 
-        session = sessionFactory.createSession();
+        session = createSession(sessionFactory);
         if (sendAcknowledgementHandler != null) {
             session.setSendAcknowledgementHandler(
                     (SendAcknowledgementHandler) sendAcknowledgementHandler.getDeclaredConstructor().newInstance());
@@ -218,6 +247,21 @@ public abstract class ArtemisItemReaderWriterBase extends ItemReaderWriterBase {
         return null;
     }
 
+    /**
+     * Creates the Artemis client core session from the session factory. The default implementation creates the session
+     * with auto-commit for both sends and acknowledgements. Subclass may override this method to create the session
+     * differently.
+     *
+     * @param sessionFactory the Artemis {@code ClientSessionFactory}
+     * @return the Artemis client core session
+     * @throws ActiveMQException if failed to create the session
+     *
+     * @since 2.0.0
+     */
+    protected ClientSession createSession(final ClientSessionFactory sessionFactory) throws ActiveMQException {
+        return sessionFactory.createSession();
+    }
+
     protected void configureServerLocator() throws Exception {
         for (final Object o : serverLocatorParams.keySet()) {
             final String key = (String) o;
@@ -243,6 +287,7 @@ public abstract class ArtemisItemReaderWriterBase extends ItemReaderWriterBase {
     }
 
     protected void close() {
+        closeMetrics();
         if (session != null) {
             try {
                 session.close();
@@ -303,4 +348,24 @@ public abstract class ArtemisItemReaderWriterBase extends ItemReaderWriterBase {
             }
         }
     }
+
+    /**
+     * Deserializes an object from the remaining bytes of a {@code ByteBuffer}, which may be a view of a message body
+     * buffer, without first copying them into a byte array.
+     *
+     * @param bytes the {@code ByteBuffer} holding the serialized object between its position and limit
+     * @return the deserialized object
+     * @throws IOException if failed to read
+     * @throws ClassNotFoundException if the class of the serialized object is not found
+     *
+     * @since 2.0.0
+     */
+    protected static Serializable bytesToSerializableObject(final ByteBuffer bytes) throws IOException, ClassNotFoundException {
+        final ObjectInputStream in = new ObjectInputStream(new ByteBufferBackedInputStream(bytes));
+        try {
+            return (Serializable) in.readObject();
+        } finally {
+            in.close();
+        }
+    }
 }
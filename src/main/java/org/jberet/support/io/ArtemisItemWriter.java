@@ -10,6 +10,7 @@
 
 package org.jberet.support.io;
 
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import javax.batch.api.BatchProperty;
@@ -18,6 +19,7 @@ import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
 import org.apache.activemq.artemis.api.core.ActiveMQException;
 import org.apache.activemq.artemis.api.core.client.ClientMessage;
 import org.apache.activemq.artemis.api.core.client.ClientProducer;
@@ -35,6 +37,11 @@ import org.jberet.support._private.SupportLogger;
  * object, and sent.
  * </ul>
  * <p>
+ * If {@link #codec} is specified, any data item that is not of type
+ * {@code org.apache.activemq.artemis.api.core.client.ClientMessage} is instead encoded with the codec directly into the
+ * body buffer of an {@code org.apache.activemq.artemis.api.core.client.ClientMessage#BYTES_TYPE} message, which is then
+ * sent.
+ * <p>
  * {@link #durableMessage} property can be configured to send either durable or non-durable (default) messages.
  *
  * @see     ArtemisItemReader
@@ -63,10 +70,14 @@ public class ArtemisItemWriter extends ArtemisItemReaderWriterBase implements It
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         for (final Object item : items) {
             final ClientMessage msg;
             if (item instanceof ClientMessage) {
                 msg = (ClientMessage) item;
+            } else if (itemCodec != null) {
+                msg = session.createMessage(ClientMessage.BYTES_TYPE, durableMessage);
+                itemCodec.encode(item, new BodyBufferOutputStream(msg.getBodyBuffer()));
             } else if (item instanceof String) {
                 msg = session.createMessage(ClientMessage.TEXT_TYPE, durableMessage);
                 msg.getBodyBuffer().writeString((String) item);
@@ -74,8 +85,12 @@ public class ArtemisItemWriter extends ArtemisItemReaderWriterBase implements It
                 msg = session.createMessage(ClientMessage.OBJECT_TYPE, durableMessage);
                 msg.getBodyBuffer().writeBytes(objectToBytes(item));
             }
+            if (metrics != null) {
+                metrics.addBytes(msg.getBodySize());
+            }
             producer.send(msg);
         }
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -90,4 +105,25 @@ public class ArtemisItemWriter extends ArtemisItemReaderWriterBase implements It
             producer = null;
         }
     }
+
+    /**
+     * Writes to the body buffer of a message, to encode data items with {@link #codec}.
+     */
+    private static final class BodyBufferOutputStream extends OutputStream {
+        private final ActiveMQBuffer buffer;
+
+        private BodyBufferOutputStream(final ActiveMQBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(final int b) {
+            buffer.writeByte((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            buffer.writeBytes(b, off, len);
+        }
+    }
 }
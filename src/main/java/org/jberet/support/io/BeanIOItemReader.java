@@ -27,6 +27,8 @@ import org.beanio.StreamFactory;
 import org.beanio.internal.util.LocaleUtil;
 import org.jberet.support._private.SupportMessages;
 
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} based on BeanIO. This reader class handles all
  * data formats that are supported by BeanIO, e.g., fixed length file, CSV file, XML, etc. It supports restart,
@@ -71,11 +73,42 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
     @BatchProperty
     protected String locale;
 
+    /**
+     * The byte offset in the input resource where the byte range to read starts. Optional property, and defaults to 0.
+     * This reader skips to the first line that starts at or after this offset, without reading any content before it.
+     * <p>
+     * Together with {@link #byteEnd}, this property divides the input resource into byte ranges that can be read by
+     * multiple partitions in parallel, where each record is read by exactly one partition. For example, each
+     * partition may be configured with the byte range generated by {@link ByteRangePartitionMapper}. When reading a
+     * byte range, {@link #start} and {@link #end} are relative to the range, and the input resource must be a local
+     * file of single-line records without header, encoded in a {@link #charset} where line feed is a single byte that
+     * is never part of other characters (e.g., {@code UTF-8} or {@code ISO-8859-1}).
+     *
+     * @see #byteEnd
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteStart;
+
+    /**
+     * The byte offset in the input resource where the byte range to read ends (exclusive). Optional property, and
+     * defaults to 0, i.e., reading till the end of the input resource. The range actually read ends right before the
+     * first line that starts at or after this offset.
+     *
+     * @see #byteStart
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteEnd;
+
     private BeanReader beanReader;
     protected int currentPosition;
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         /**
          * The row number to start reading.  It may be different from the injected field start. During a restart,
          * we would start reading from where it ended during the last run.
@@ -93,9 +126,19 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
 
         mappingFileKey = new StreamFactoryKey(jobContext, streamMapping);
         final StreamFactory streamFactory = getStreamFactory(streamFactoryLookup, mappingFileKey, mappingProperties);
-        final InputStream inputStream = getInputStream(resource, false);
-        final Reader inputReader = charset == null ? new InputStreamReader(inputStream) :
-                new InputStreamReader(inputStream, charset);
+        final InputStream inputStream;
+        if (byteStart > 0 || byteEnd > 0) {
+            if (!isByteOffsetSupported(resource, charset)) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+            }
+            inputStream = getInputStreamInRange(resource, findLineStart(resource, byteStart, -1),
+                    byteEnd > 0 ? findLineStart(resource, byteEnd, -1) : -1, null, null);
+        } else {
+            inputStream = getInputStream(resource, false);
+        }
+        final InputStream countingInputStream = countBytes(inputStream);
+        final Reader inputReader = charset == null ? new InputStreamReader(countingInputStream) :
+                new InputStreamReader(countingInputStream, charset);
         beanReader = streamFactory.createReader(streamName, new BufferedReader(inputReader), LocaleUtil.parseLocale(locale));
 
         if (errorHandler != null) {
@@ -112,11 +155,12 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
         if (++currentPosition > end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         final Object readValue = beanReader.read();
         if (!skipBeanValidation) {
             ItemReaderWriterBase.validate(readValue);
         }
-        return readValue;
+        return itemRead(startTime, readValue);
     }
 
     @Override
@@ -131,5 +175,6 @@ public class BeanIOItemReader extends BeanIOItemReaderWriterBase implements Item
             beanReader = null;
             mappingFileKey = null;
         }
+        closeMetrics();
     }
 }
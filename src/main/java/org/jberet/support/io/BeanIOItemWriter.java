@@ -53,6 +53,7 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
     
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         mappingFileKey = new StreamFactoryKey(jobContext, streamMapping);
         final StreamFactory streamFactory = getStreamFactory(streamFactoryLookup, mappingFileKey, mappingProperties);
         final OutputStream outputStream = getOutputStream(writeMode==null ? CsvProperties.OVERWRITE : writeMode);
@@ -63,9 +64,11 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         for (final Object e : items) {
             beanWriter.write(e);
         }
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -80,5 +83,6 @@ public class BeanIOItemWriter extends BeanIOItemReaderWriterBase implements Item
             beanWriter = null;
             mappingFileKey = null;
         }
+        closeMetrics();
     }
 }
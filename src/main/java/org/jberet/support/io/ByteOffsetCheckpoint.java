@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checkpoint data saved by file-based item readers that support resuming from a byte offset. In addition to the
+ * number of data items read so far, it records the byte offset in the reader resource right after the last item,
+ * so that a restarted reader can position directly at that offset instead of re-reading all preceding data.
+ * <p>
+ * Some resource formats (e.g., Json or XML) require enclosing structure for the remaining content to be parsed
+ * properly, and the reader may save such structure as {@link #getPrefix() prefix}, which is prepended to the
+ * resource content at the byte offset when resuming. The prefix holds raw bytes of the resource, with each char
+ * representing one byte as in {@code ISO-8859-1} encoding, so that it is preserved regardless of the resource encoding.
+ *
+ * @see JsonItemReader#checkpointByteOffset
+ * @see XmlItemReader#checkpointByteOffset
+ * @since 2.0.0
+ */
+public final class ByteOffsetCheckpoint implements Serializable {
+    private static final long serialVersionUID = 3507658385237961207L;
+
+    /**
+     * Number of data items read so far.
+     */
+    private final int rowNumber;
+
+    /**
+     * Byte offset in the reader resource right after the last data item read.
+     */
+    private final long byteOffset;
+
+    /**
+     * Raw bytes to prepend to the resource data at {@link #byteOffset} when resuming, may be null.
+     */
+    private final String prefix;
+
+    public ByteOffsetCheckpoint(final int rowNumber, final long byteOffset, final String prefix) {
+        this.rowNumber = rowNumber;
+        this.byteOffset = byteOffset;
+        this.prefix = prefix;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    /**
+     * Gets the prefix as byte array.
+     *
+     * @return the prefix bytes, or an empty array if there is no prefix
+     */
+    public byte[] getPrefixBytes() {
+        return prefix == null ? new byte[0] : prefix.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteOffsetCheckpoint{" +
+                "rowNumber=" + rowNumber +
+                ", byteOffset=" + byteOffset +
+                ", prefix='" + prefix + '\'' +
+                '}';
+    }
+}
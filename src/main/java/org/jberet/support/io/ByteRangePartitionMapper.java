@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.File;
+import java.util.Properties;
+import javax.batch.api.BatchProperty;
+import javax.batch.api.partition.PartitionMapper;
+import javax.batch.api.partition.PartitionPlan;
+import javax.batch.api.partition.PartitionPlanImpl;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.jberet.support._private.SupportMessages;
+
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
+/**
+ * An implementation of {@code javax.batch.api.partition.PartitionMapper} that divides a file resource into byte
+ * ranges of equal size, one for each partition. The byte range of each partition is available as partition
+ * properties {@code byteStart} and {@code byteEnd}, which can be passed to the item reader of the partitioned step,
+ * for example:
+ * <p>
+ * <pre>
+ * &lt;step id="step1"&gt;
+ *     &lt;chunk&gt;
+ *         &lt;reader ref="csvItemReader"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="resource" value="#{jobParameters['resource']}"/&gt;
+ *                 &lt;property name="byteStart" value="#{partitionPlan['byteStart']}"/&gt;
+ *                 &lt;property name="byteEnd" value="#{partitionPlan['byteEnd']}"/&gt;
+ *             &lt;/properties&gt;
+ *         &lt;/reader&gt;
+ *         ...
+ *     &lt;/chunk&gt;
+ *     &lt;partition&gt;
+ *         &lt;mapper ref="byteRangePartitionMapper"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="resource" value="#{jobParameters['resource']}"/&gt;
+ *                 &lt;property name="partitionCount" value="4"/&gt;
+ *             &lt;/properties&gt;
+ *         &lt;/mapper&gt;
+ *     &lt;/partition&gt;
+ * &lt;/step&gt;
+ * </pre>
+ * The byte ranges do not need to align with record boundaries, since the item reader re-synchronizes on the next
+ * record boundary at both ends of its range.
+ *
+ * @see CsvItemReader#byteStart
+ * @see JacksonCsvItemReader#byteStart
+ * @see JsonItemReader#byteStart
+ * @see BeanIOItemReader#byteStart
+ * @since 2.0.0
+ */
+@Named
+@Dependent
+public class ByteRangePartitionMapper implements PartitionMapper {
+    /**
+     * Partition property key for the start of the byte range.
+     */
+    public static final String BYTE_START_KEY = "byteStart";
+
+    /**
+     * Partition property key for the end of the byte range.
+     */
+    public static final String BYTE_END_KEY = "byteEnd";
+
+    /**
+     * The file resource to divide, which must be a local file (a file path, a {@code file:} URL, or a classpath
+     * resource residing in a directory). Required property.
+     */
+    @Inject
+    @BatchProperty
+    protected String resource;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. The actual number
+     * of partitions may be less for very small resources.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Maximum number of threads to run partitions concurrently. Optional property, and defaults to the number of
+     * partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        final File file = ItemReaderWriterBase.getResourceFile(resource);
+        if (file == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final long length = file.length();
+        int count = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+        count = (int) Math.max(Math.min(count, length), 1);
+
+        final Properties[] partitionProperties = new Properties[count];
+        for (int i = 0; i < count; i++) {
+            final Properties props = new Properties();
+            props.setProperty(BYTE_START_KEY, String.valueOf(length * i / count));
+
+            // byteEnd 0 means reading till the end of the resource
+            props.setProperty(BYTE_END_KEY, i == count - 1 ? "0" : String.valueOf(length * (i + 1) / count));
+            partitionProperties[i] = props;
+        }
+
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(count);
+        partitionPlan.setThreads(threads > 0 ? threads : count);
+        partitionPlan.setPartitionProperties(partitionProperties);
+        return partitionPlan;
+    }
+}
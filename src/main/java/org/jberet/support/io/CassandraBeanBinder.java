@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.CodecNotFoundException;
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * Binds Cassandra columns or cql parameters to JavaBeans properties of a bean type, with the bindings resolved once
+ * per bean type instead of for each row or data item. Bean instances are created, and properties are read or
+ * written, through {@code java.lang.invoke.MethodHandle} resolved per column or parameter index, and the codec for
+ * each column or parameter is also looked up once.
+ *
+ * @see CassandraItemReader
+ * @see CassandraItemWriter
+ * @since 2.0.0
+ */
+final class CassandraBeanBinder {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> beanType;
+
+    /**
+     * Creates a new bean instance, of type {@code ()Object}, or null if binding for write.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Setter (for read) or getter (for write) for each column or parameter index, or null if not bound.
+     */
+    private final MethodHandle[] accessors;
+
+    /**
+     * Property type for each column or parameter index.
+     */
+    private final Class<?>[] propertyTypes;
+
+    /**
+     * Codec for each column or parameter index, or null to use the default conversion.
+     */
+    private final TypeCodec[] codecs;
+
+    private CassandraBeanBinder(final Class<?> beanType, final MethodHandle constructor, final MethodHandle[] accessors,
+                                final Class<?>[] propertyTypes, final TypeCodec[] codecs) {
+        this.beanType = beanType;
+        this.constructor = constructor;
+        this.accessors = accessors;
+        this.propertyTypes = propertyTypes;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Resolves the bindings for reading columns into bean properties.
+     *
+     * @param beanType          the bean type
+     * @param columnMapping     bean property name for each column
+     * @param columnDefinitions column definitions of the result set
+     * @param customCodecs      custom codecs, may be null
+     * @return the bean binder
+     * @throws Exception if failed to resolve the bindings
+     */
+    static CassandraBeanBinder forRead(final Class<?> beanType, final String[] columnMapping,
+                                       final ColumnDefinitions columnDefinitions,
+                                       final List<TypeCodec> customCodecs) throws Exception {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Constructor<?> ctor = beanType.getDeclaredConstructor();
+        ctor.setAccessible(true);
+        final MethodHandle constructor = lookup.unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+
+        final Map<String, PropertyDescriptor> properties = getProperties(beanType);
+        final MethodHandle[] setters = new MethodHandle[columnMapping.length];
+        final Class<?>[] propertyTypes = new Class<?>[columnMapping.length];
+        final TypeCodec[] codecs = new TypeCodec[columnMapping.length];
+        for (int i = 0; i < columnMapping.length; ++i) {
+            final PropertyDescriptor d = properties.get(columnMapping[i]);
+            if (d == null || d.getWriteMethod() == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, columnMapping[i], "columnMapping");
+            }
+            final Method writeMethod = d.getWriteMethod();
+            writeMethod.setAccessible(true);
+            setters[i] = lookup.unreflect(writeMethod).asType(SETTER_TYPE);
+            propertyTypes[i] = d.getPropertyType();
+
+            if (customCodecs != null) {
+                for (final TypeCodec<?> c : customCodecs) {
+                    if (c.accepts(propertyTypes[i]) && c.accepts(columnDefinitions.getType(i))) {
+                        codecs[i] = c;
+                        break;
+                    }
+                }
+            }
+        }
+        return new CassandraBeanBinder(beanType, constructor, setters, propertyTypes, codecs);
+    }
+
+    /**
+     * Resolves the bindings for writing bean properties into cql parameters. A parameter is bound to the bean
+     * property of the same name, or of the name in {@code parameterNames} that only differs from the parameter name
+     * in case.
+     *
+     * @param beanType       the bean type
+     * @param variables      cql parameter definitions of the prepared statement
+     * @param parameterNames parameter names in the correct case, may be null
+     * @param codecRegistry  the codec registry to look up the codec for each parameter
+     * @return the bean binder
+     * @throws Exception if failed to resolve the bindings
+     */
+    static CassandraBeanBinder forWrite(final Class<?> beanType, final ColumnDefinitions variables,
+                                        final String[] parameterNames,
+                                        final CodecRegistry codecRegistry) throws Exception {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Map<String, PropertyDescriptor> properties = getProperties(beanType);
+        final int count = variables.size();
+        final MethodHandle[] getters = new MethodHandle[count];
+        final Class<?>[] propertyTypes = new Class<?>[count];
+        final TypeCodec[] codecs = new TypeCodec[count];
+        for (int i = 0; i < count; ++i) {
+            final String name = variables.getName(i);
+            PropertyDescriptor d = properties.get(name);
+            if (d == null && parameterNames != null) {
+                for (final String n : parameterNames) {
+                    if (name.equalsIgnoreCase(n)) {
+                        d = properties.get(n);
+                        break;
+                    }
+                }
+            }
+            if (d == null || d.getReadMethod() == null) {
+                continue;
+            }
+            final Method readMethod = d.getReadMethod();
+            readMethod.setAccessible(true);
+            getters[i] = lookup.unreflect(readMethod).asType(GETTER_TYPE);
+            propertyTypes[i] = d.getPropertyType();
+
+            try {
+                codecs[i] = codecRegistry.codecFor(variables.getType(i), MethodType.methodType(propertyTypes[i]).wrap().returnType());
+            } catch (final CodecNotFoundException e) {
+                // no codec matches the property type, and the value will be converted for each data item
+            }
+        }
+        return new CassandraBeanBinder(beanType, null, getters, propertyTypes, codecs);
+    }
+
+    Class<?> getBeanType() {
+        return beanType;
+    }
+
+    Class<?> getPropertyType(final int index) {
+        return propertyTypes[index];
+    }
+
+    TypeCodec getCodec(final int index) {
+        return codecs[index];
+    }
+
+    boolean isBound(final int index) {
+        return accessors[index] != null;
+    }
+
+    Object newInstance() throws Throwable {
+        return (Object) constructor.invokeExact();
+    }
+
+    void set(final Object bean, final int index, final Object value) throws Throwable {
+        accessors[index].invokeExact(bean, value);
+    }
+
+    Object get(final Object bean, final int index) throws Throwable {
+        return (Object) accessors[index].invokeExact(bean);
+    }
+
+    private static Map<String, PropertyDescriptor> getProperties(final Class<?> beanType) throws IntrospectionException {
+        final Map<String, PropertyDescriptor> properties = new HashMap<String, PropertyDescriptor>();
+        for (final PropertyDescriptor d : Introspector.getBeanInfo(beanType).getPropertyDescriptors()) {
+            if (!d.getName().equals("class")) {
+                properties.put(d.getName(), d);
+            }
+        }
+        return properties;
+    }
+}
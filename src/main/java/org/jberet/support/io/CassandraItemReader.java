@@ -10,8 +10,6 @@
 
 package org.jberet.support.io;
 
-import java.beans.IntrospectionException;
-import java.beans.PropertyDescriptor;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +27,8 @@ import javax.inject.Named;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.LocalDate;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
@@ -38,10 +38,18 @@ import org.jberet.support._private.SupportMessages;
 
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} that reads data items from the Cassandra cluster.
+ * <p>
+ * To scan a large table in parallel, use this class in a partitioned step with
+ * {@link CassandraTokenRangePartitionMapper}, and restrict each partition to its token range with {@link #tokenStart}
+ * and {@link #tokenEnd}.
+ * <p>
+ * The checkpoint of this reader is a {@link CassandraPagingStateCheckpoint}, so that a restarted reader resumes at
+ * the page it was reading, instead of fetching and skipping all preceding rows.
  *
  * @see CassandraItemWriter
  * @see CassandraBatchlet
  * @see CassandraReaderWriterBase
+ * @see CassandraTokenRangePartitionMapper
  *
  * @since 1.3.0
  */
@@ -104,6 +112,33 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
     @BatchProperty
     protected boolean skipBeanValidation;
 
+    /**
+     * The lower bound (exclusive) of the token range to read, as a string token value. Optional property, and if
+     * specified, {@link #tokenEnd} must also be specified, and {@link #cql} should have 2 parameter markers for the
+     * token range bounds, for example,
+     * <p>
+     * SELECT * FROM STOCK_TRADE WHERE TOKEN(TRADEDATE) &gt; ? AND TOKEN(TRADEDATE) &lt;= ?
+     * <p>
+     * It is typically set to partition property {@code tokenStart} from {@link CassandraTokenRangePartitionMapper}.
+     *
+     * @see CassandraTokenRangePartitionMapper
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String tokenStart;
+
+    /**
+     * The upper bound (inclusive) of the token range to read, as a string token value. Optional property, and is
+     * used together with {@link #tokenStart}.
+     *
+     * @see CassandraTokenRangePartitionMapper
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String tokenEnd;
+
     /**
      * The column names of the {@code ResultSet}
      */
@@ -130,15 +165,25 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
     protected ColumnDefinitions columnDefinitions;
 
     /**
-     * For {@link #beanType} of custom POJO bean, this property defines a mapping
-     * between POJO bean's property name and its JavaBeans {@code java.beans.PropertyDescriptor}.
+     * The current row number.
      */
-    protected Map<String, PropertyDescriptor> propertyDescriptorMap;
+    protected int currentRowNumber;
 
     /**
-     * The current row number.
+     * The string form of the paging state to fetch the current page, or null for the first page.
      */
-    protected int currentRowNumber;
+    private String pagingState;
+
+    /**
+     * Number of rows already read in the current page.
+     */
+    private int pageOffset;
+
+    /**
+     * Bindings between columns and properties of the custom POJO {@link #beanType}, resolved once in
+     * {@link #open(Serializable)}.
+     */
+    private CassandraBeanBinder beanBinder;
 
     /**
      * {@inheritDoc}
@@ -149,31 +194,25 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
             initSession();
         }
 
-        initBeanPropertyDescriptors();
-
         if (statement == null) {
-            statement = new SimpleStatement(cql);
+            if (tokenStart != null || tokenEnd != null) {
+                if (tokenStart == null) {
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "tokenStart");
+                }
+                if (tokenEnd == null) {
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "tokenEnd");
+                }
+                final Metadata metadata = session.getCluster().getMetadata();
+                statement = new SimpleStatement(cql,
+                        metadata.newToken(tokenStart).getValue(), metadata.newToken(tokenEnd).getValue());
+            } else {
+                statement = new SimpleStatement(cql);
+            }
         }
 
         if (fetchSize != null) {
             statement.setFetchSize(fetchSize);
         }
-        resultSet = session.execute(statement);
-        rowIterator = resultSet.iterator();
-
-        columnDefinitions = resultSet.getColumnDefinitions();
-        if (columnMapping == null) {
-            if (beanType != List.class) {
-                final int columnCount = columnDefinitions.size();
-                columnLabels = new String[columnCount];
-                for (int i = 0; i < columnCount; ++i) {
-                    columnLabels[i] = columnDefinitions.getName(i);
-                }
-                columnMapping = columnLabels;
-            }
-        } else if (columnMapping.length != columnDefinitions.size()) {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(columnMapping), "columnMapping");
-        }
 
         if (start <= 0) {
             start = 1;
@@ -187,15 +226,45 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
 
         //readyPosition is the position before the first item to be read
         int readyPosition = start - 1;
-        if (checkpoint != null) {
+        if (checkpoint instanceof CassandraPagingStateCheckpoint) {
+            final CassandraPagingStateCheckpoint pagingStateCheckpoint = (CassandraPagingStateCheckpoint) checkpoint;
+            readyPosition = pagingStateCheckpoint.getRowNumber();
+            if (pagingStateCheckpoint.getPagingState() != null) {
+                //resume from the page containing the next row, and skip the rows already read in that page
+                pagingState = pagingStateCheckpoint.getPagingState();
+                statement.setPagingState(PagingState.fromString(pagingState),
+                        session.getCluster().getConfiguration().getCodecRegistry());
+                currentRowNumber = readyPosition - pagingStateCheckpoint.getPageOffset();
+            }
+        } else if (checkpoint != null) {
             final int checkpointPosition = (Integer) checkpoint;
             if (checkpointPosition > readyPosition) {
                 readyPosition = checkpointPosition;
             }
         }
 
-        for (; currentRowNumber < readyPosition && rowIterator.hasNext(); currentRowNumber++) {
-            rowIterator.next();
+        resultSet = session.execute(statement);
+        rowIterator = resultSet.iterator();
+
+        columnDefinitions = resultSet.getColumnDefinitions();
+        if (columnMapping == null) {
+            if (beanType != List.class) {
+                final int columnCount = columnDefinitions.size();
+                columnLabels = new String[columnCount];
+                for (int i = 0; i < columnCount; ++i) {
+                    columnLabels[i] = columnDefinitions.getName(i);
+                }
+                columnMapping = columnLabels;
+            }
+        } else if (columnMapping.length != columnDefinitions.size()) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(columnMapping), "columnMapping");
+        }
+        if (beanType != null && beanType != List.class && beanType != Map.class) {
+            beanBinder = CassandraBeanBinder.forRead(beanType, columnMapping, columnDefinitions, customCodecList);
+        }
+
+        while (currentRowNumber < readyPosition && nextRow() != null) {
+            currentRowNumber++;
         }
     }
 
@@ -208,30 +277,35 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
             return null;
         }
         Object result = null;
-        if (rowIterator.hasNext()) {
-            final Row row = rowIterator.next();
-
+        final Row row = nextRow();
+        if (row != null) {
             if (beanType == List.class) {
                 final List<Object> resultList = new ArrayList<Object>();
                 for (int i = 0, k = columnDefinitions.size(); i < k; ++i) {
-                    resultList.add(getColumnValue(row, i, null));
+                    resultList.add(getColumnValue(row, i, null, null));
                 }
                 result = resultList;
             } else if (beanType == Map.class) {
                 final Map<String, Object> resultMap = new HashMap<String, Object>();
                 for (int i = 0; i < columnMapping.length; ++i) {
-                    resultMap.put(columnMapping[i], getColumnValue(row, i, null));
+                    resultMap.put(columnMapping[i], getColumnValue(row, i, null, null));
                 }
                 result = resultMap;
-            } else if (beanType != null) {
-                final Object readValue = beanType.getDeclaredConstructor().newInstance();
-                Object columnValue;
-                for (int i = 0; i < columnMapping.length; ++i) {
-                    final PropertyDescriptor propertyDescriptor = propertyDescriptorMap.get(columnMapping[i]);
-                    columnValue = getColumnValue(row, i, propertyDescriptor.getPropertyType());
-                    if (columnValue != null) {
-                        propertyDescriptor.getWriteMethod().invoke(readValue, columnValue);
+            } else if (beanBinder != null) {
+                final Object readValue;
+                try {
+                    readValue = beanBinder.newInstance();
+                    Object columnValue;
+                    for (int i = 0; i < columnMapping.length; ++i) {
+                        columnValue = getColumnValue(row, i, beanBinder.getPropertyType(i), beanBinder.getCodec(i));
+                        if (columnValue != null) {
+                            beanBinder.set(readValue, i, columnValue);
+                        }
                     }
+                } catch (final Exception | Error e) {
+                    throw e;
+                } catch (final Throwable e) {
+                    throw new IllegalStateException(e);
                 }
 
                 if (!skipBeanValidation) {
@@ -247,25 +321,39 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the checkpoint info as a {@link CassandraPagingStateCheckpoint}, which contains the current row number,
+     * and the paging state and offset of the current page, so that upon restart, this reader fetches the current
+     * page directly without fetching the preceding pages again.
+     *
+     * @return a {@link CassandraPagingStateCheckpoint}
+     * @throws Exception any exception raised
      */
     @Override
     public Serializable checkpointInfo() throws Exception {
-        return currentRowNumber;
+        return new CassandraPagingStateCheckpoint(currentRowNumber, pagingState, pageOffset);
     }
 
-    @Override
-    protected void initBeanPropertyDescriptors() throws IntrospectionException {
-        super.initBeanPropertyDescriptors();
-        if (propertyDescriptors != null) {
-            propertyDescriptorMap = new HashMap<>();
-            for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                final String name = propertyDescriptor.getName();
-                if (!name.equals("class")) {
-                    propertyDescriptorMap.put(name, propertyDescriptor);
-                }
+    /**
+     * Gets the next row from {@link #rowIterator}, and keeps track of the paging state and offset of the current
+     * page. The paging state of a page is saved before the driver fetches that page, i.e., when all rows already
+     * fetched have been read.
+     *
+     * @return the next row, or null if there is no more rows
+     */
+    private Row nextRow() {
+        if (resultSet.getAvailableWithoutFetching() == 0) {
+            final PagingState nextPagingState = resultSet.getExecutionInfo().getPagingState();
+            if (nextPagingState == null) {
+                return null;
             }
+            pagingState = nextPagingState.toString();
+            pageOffset = 0;
         }
+        if (!rowIterator.hasNext()) {
+            return null;
+        }
+        pageOffset++;
+        return rowIterator.next();
     }
 
     /**
@@ -280,10 +368,11 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
      *                    differ from the default CQL data type mapping. If more
      *                    customization is needed during de-serialization, consider
      *                    using {@link #customCodecs}.
+     * @param codec the custom codec for the column and the {@code desiredType}, or null if none.
      *
      * @return the current column value
      */
-    private Object getColumnValue(final Row row, final int position, final Class<?> desiredType) {
+    private Object getColumnValue(final Row row, final int position, final Class<?> desiredType, final TypeCodec codec) {
         if (row.isNull(position)) {
             return null;
         }
@@ -292,17 +381,12 @@ public class CassandraItemReader extends CassandraReaderWriterBase implements It
         final DataType columnDefinitionsType = columnDefinitions.getType(position);
         final DataType.Name cqlType = columnDefinitionsType.getName();
 
-        //for POJO beanType, first check if any custom codec should be used based on the
-        //POJO field type (desiredType).
-        //for List or Map beanType, since desiredType is not passed in, this explicit check
-        //of custom codecs is not performed. Just let the driver do the work with built-in and
-        //registered codecs.
-        if (desiredType != null && customCodecList != null) {
-            for (TypeCodec c : customCodecList) {
-                if (c.accepts(desiredType) && c.accepts(columnDefinitionsType)) {
-                    return row.get(position, c);
-                }
-            }
+        //for POJO beanType, the custom codec matching the POJO field type (desiredType), if any,
+        //is resolved once in CassandraBeanBinder.
+        //for List or Map beanType, no custom codec is passed in. Just let the driver do the work
+        //with built-in and registered codecs.
+        if (codec != null) {
+            return row.get(position, codec);
         }
 
         switch (cqlType) {
@@ -10,15 +10,14 @@
 
 package org.jberet.support.io;
 
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemWriter;
 import javax.enterprise.context.Dependent;
@@ -33,12 +32,19 @@ import com.datastax.driver.core.Duration;
 import com.datastax.driver.core.LocalDate;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.TupleValue;
 import com.datastax.driver.core.UDTValue;
 import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
 
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemWriter} that inserts data items into Cassandra cluster.
+ * <p>
+ * By default, all data items in a chunk are inserted with one batch statement. If batch property {@link #maxInFlight}
+ * is positive, each data item is instead inserted with its own statement executed asynchronously, with at most
+ * {@link #maxInFlight} statements in flight at any time, and the chunk completes after all statements complete.
  *
  * @see CassandraItemReader
  * @see CassandraReaderWriterBase
@@ -62,6 +68,19 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
     @BatchProperty
     protected String[] parameterNames;
 
+    /**
+     * The maximum number of asynchronous insert statements in flight. Optional property, and defaults to 0, which
+     * inserts all data items in a chunk with one batch statement. If positive, each data item is inserted with its
+     * own statement, which avoids large multi-partition batches that overload the coordinator. After all statements
+     * in a chunk complete, each failed data item is passed to {@link #onWriteError(Object, int, Throwable)}, and
+     * the chunk fails if any data item failed.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int maxInFlight;
+
     /**
      * The Cassandra batch statement that contains all insert statements within the
      * current chunk processing cycle. After the batch inserts for the current chunk
@@ -74,11 +93,40 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
      */
     protected PreparedStatement preparedStatement;
 
+    private static final Executor DIRECT_EXECUTOR = new Executor() {
+        @Override
+        public void execute(final Runnable command) {
+            command.run();
+        }
+    };
+
+    /**
+     * Permits for asynchronous statements in flight, when {@link #maxInFlight} is positive.
+     */
+    private Semaphore inFlightPermits;
+
+    /**
+     * Bindings between cql parameters and properties of the custom POJO data item type, resolved once per data item
+     * type.
+     */
+    private CassandraBeanBinder beanBinder;
+
+    private final Runnable releaseInFlightPermit = new Runnable() {
+        @Override
+        public void run() {
+            inFlightPermits.release();
+        }
+    };
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        if (maxInFlight > 0) {
+            writeItemsAsync(items);
+            return;
+        }
         try {
             for (final Object item : items) {
                 batchStatement.add(mapParameters(item));
@@ -105,7 +153,14 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
         //if parameterNames is null, assume the cql string contains named parameters
         //and the parameter value will be bound with its name instead of the index.
 
-        initBeanPropertyDescriptors();
+        if (beanType != null && beanType != List.class && beanType != Map.class) {
+            beanBinder = CassandraBeanBinder.forWrite(beanType, preparedStatement.getVariables(), parameterNames,
+                    session.getCluster().getConfiguration().getCodecRegistry());
+        }
+
+        if (maxInFlight > 0) {
+            inFlightPermits = new Semaphore(maxInFlight);
+        }
     }
 
     /**
@@ -118,6 +173,74 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
         return null;
     }
 
+    /**
+     * Handles a data item that failed to be inserted, when {@link #maxInFlight} is positive. The default
+     * implementation logs the failure. Subclass may override this method to handle failed data items differently,
+     * for example, by saving them elsewhere for later processing. The chunk fails after all failed data items are
+     * handled.
+     *
+     * @param item  the data item that failed to be inserted
+     * @param index the index of the data item in the current chunk
+     * @param error the cause of the failure
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected void onWriteError(final Object item, final int index, final Throwable error) throws Exception {
+        SupportLogger.LOGGER.failToWriteItem(error, index, item);
+    }
+
+    /**
+     * Inserts each data item with its own asynchronous statement, with at most {@link #maxInFlight} statements in
+     * flight, and waits for all statements to complete.
+     *
+     * @param items data items to insert
+     * @throws Exception if any data item failed to be inserted
+     */
+    private void writeItemsAsync(final List<Object> items) throws Exception {
+        final ResultSetFuture[] futures = new ResultSetFuture[items.size()];
+        int submitted = 0;
+        Exception submitFailure = null;
+        try {
+            for (final Object item : items) {
+                final BoundStatement statement = mapParameters(item);
+                inFlightPermits.acquire();
+                final ResultSetFuture future;
+                try {
+                    future = session.executeAsync(statement);
+                } catch (final RuntimeException e) {
+                    inFlightPermits.release();
+                    throw e;
+                }
+                future.addListener(releaseInFlightPermit, DIRECT_EXECUTOR);
+                futures[submitted++] = future;
+            }
+        } catch (final Exception e) {
+            submitFailure = e;
+        }
+
+        // wait for all submitted statements, even if some items could not be submitted
+        int failed = 0;
+        Throwable firstFailure = null;
+        for (int i = 0; i < submitted; i++) {
+            try {
+                futures[i].getUninterruptibly();
+            } catch (final RuntimeException e) {
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+                failed++;
+                onWriteError(items.get(i), i, e);
+            }
+        }
+        if (submitFailure != null) {
+            throw submitFailure;
+        }
+        if (failed > 0) {
+            throw SupportMessages.MESSAGES.failToWriteItems(firstFailure, failed, items.size());
+        }
+    }
+
     private BoundStatement mapParameters(final Object item) throws Exception {
         final BoundStatement boundStatement;
 
@@ -137,23 +260,8 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
                 itemAsArray[i] = itemAsList.get(i);
             }
             boundStatement = preparedStatement.bind(itemAsArray);
-        } else {
-            final Map itemAsMap;
-            if (item instanceof Map) {
-                itemAsMap = (Map) item;
-            } else {
-                if (propertyDescriptors == null) {
-                    propertyDescriptors = Introspector.getBeanInfo(item.getClass()).getPropertyDescriptors();
-                }
-                itemAsMap = new HashMap();
-                for (PropertyDescriptor d : propertyDescriptors) {
-                    final String name = d.getName();
-                    if(!name.equals("class")) {
-                        final Object val = d.getReadMethod().invoke(item);
-                        itemAsMap.put(name, val);
-                    }
-                }
-            }
+        } else if (item instanceof Map) {
+            final Map itemAsMap = (Map) item;
             boundStatement = preparedStatement.bind();
             for (ColumnDefinitions.Definition cd : preparedStatement.getVariables()) {
                 final String name = cd.getName();
@@ -182,6 +290,47 @@ public class CassandraItemWriter extends CassandraReaderWriterBase implements It
                     setParameter(boundStatement, cd.getType().getName(), name, val);
                 }
             }
+        } else {
+            boundStatement = mapBeanParameters(item);
+        }
+        return boundStatement;
+    }
+
+    /**
+     * Binds the properties of a custom POJO data item to cql parameters by index, with {@link #beanBinder}.
+     * A property is bound with the codec resolved for its type, or with
+     * {@link #setParameter(BoundStatement, DataType.Name, String, Object)} if no codec matches its type.
+     *
+     * @param item the data item
+     * @return the bound statement
+     * @throws Exception if failed to bind the data item
+     */
+    private BoundStatement mapBeanParameters(final Object item) throws Exception {
+        if (beanBinder == null || beanBinder.getBeanType() != item.getClass()) {
+            beanBinder = CassandraBeanBinder.forWrite(item.getClass(), preparedStatement.getVariables(), parameterNames,
+                    session.getCluster().getConfiguration().getCodecRegistry());
+        }
+        final BoundStatement boundStatement = preparedStatement.bind();
+        final ColumnDefinitions variables = preparedStatement.getVariables();
+        try {
+            for (int i = 0, n = variables.size(); i < n; ++i) {
+                final Object val = beanBinder.isBound(i) ? beanBinder.get(item, i) : null;
+                if (val == null) {
+                    SupportLogger.LOGGER.queryParameterNotBound(variables.getName(i), cql);
+                } else {
+                    @SuppressWarnings("unchecked")
+                    final TypeCodec<Object> codec = beanBinder.getCodec(i);
+                    if (codec != null) {
+                        boundStatement.set(i, val, codec);
+                    } else {
+                        setParameter(boundStatement, variables.getType(i).getName(), variables.getName(i), val);
+                    }
+                }
+            }
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
         }
         return boundStatement;
     }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+
+/**
+ * Checkpoint data saved by {@link CassandraItemReader}. In addition to the number of rows read so far, it records the
+ * driver paging state of the result page containing the next row, and the number of rows already read in that page,
+ * so that a restarted reader can fetch that page directly, instead of fetching and skipping all preceding pages.
+ *
+ * @see CassandraItemReader
+ * @since 2.0.0
+ */
+public final class CassandraPagingStateCheckpoint implements Serializable {
+    private static final long serialVersionUID = 2486517370235386163L;
+
+    /**
+     * Number of rows read so far.
+     */
+    private final int rowNumber;
+
+    /**
+     * The string form of {@code com.datastax.driver.core.PagingState} to fetch the current page, or null if the
+     * current page is the first page.
+     */
+    private final String pagingState;
+
+    /**
+     * Number of rows already read in the current page.
+     */
+    private final int pageOffset;
+
+    public CassandraPagingStateCheckpoint(final int rowNumber, final String pagingState, final int pageOffset) {
+        this.rowNumber = rowNumber;
+        this.pagingState = pagingState;
+        this.pageOffset = pageOffset;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getPagingState() {
+        return pagingState;
+    }
+
+    public int getPageOffset() {
+        return pageOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "CassandraPagingStateCheckpoint{" +
+                "rowNumber=" + rowNumber +
+                ", pagingState='" + pagingState + '\'' +
+                ", pageOffset=" + pageOffset +
+                '}';
+    }
+}
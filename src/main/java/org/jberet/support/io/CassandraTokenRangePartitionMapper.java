@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import javax.batch.api.BatchProperty;
+import javax.batch.api.partition.PartitionMapper;
+import javax.batch.api.partition.PartitionPlan;
+import javax.batch.api.partition.PartitionPlanImpl;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * An implementation of {@code javax.batch.api.partition.PartitionMapper} that divides the token ring of a Cassandra
+ * cluster into contiguous token ranges, one for each partition, so that each partition of a {@link CassandraItemReader}
+ * step can scan a disjoint slice of a table in parallel.
+ * <p>
+ * The token ranges are computed from the token ring metadata of the cluster: the token ranges owned by the nodes are
+ * split further if there are fewer of them than {@link #partitionCount}, and adjacent token ranges are then grouped
+ * into partitions, so that each partition covers about the same number of tokens. The lower (exclusive) and upper
+ * (inclusive) bounds of each partition are available as partition properties {@code tokenStart} and {@code tokenEnd},
+ * and can be passed to {@link CassandraItemReader}, whose {@link CassandraItemReader#cql} should restrict the token of
+ * the partition key with 2 parameter markers, for example:
+ * <p>
+ * <pre>
+ * &lt;step id="step1"&gt;
+ *     &lt;chunk&gt;
+ *         &lt;reader ref="cassandraItemReader"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="cql" value="select * from stock_trade where token(tradedate) &gt; ? and token(tradedate) &lt;= ?"/&gt;
+ *                 &lt;property name="tokenStart" value="#{partitionPlan['tokenStart']}"/&gt;
+ *                 &lt;property name="tokenEnd" value="#{partitionPlan['tokenEnd']}"/&gt;
+ *                 ...
+ *             &lt;/properties&gt;
+ *         &lt;/reader&gt;
+ *         ...
+ *     &lt;/chunk&gt;
+ *     &lt;partition&gt;
+ *         &lt;mapper ref="cassandraTokenRangePartitionMapper"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="contactPoints" value="localhost"/&gt;
+ *                 &lt;property name="keyspace" value="test"/&gt;
+ *                 &lt;property name="partitionCount" value="4"/&gt;
+ *             &lt;/properties&gt;
+ *         &lt;/mapper&gt;
+ *     &lt;/partition&gt;
+ * &lt;/step&gt;
+ * </pre>
+ * Cassandra connection is configured with the same properties as {@link CassandraItemReader}. Only
+ * {@code Murmur3Partitioner} (the default) and {@code RandomPartitioner} are supported.
+ *
+ * @see CassandraItemReader#tokenStart
+ * @see CassandraItemReader#tokenEnd
+ * @since 2.0.0
+ */
+@Named
+@Dependent
+public class CassandraTokenRangePartitionMapper extends CassandraReaderWriterBase implements PartitionMapper {
+    /**
+     * Partition property key for the lower bound (exclusive) of the token range of the partition.
+     */
+    public static final String TOKEN_START_KEY = "tokenStart";
+
+    /**
+     * Partition property key for the upper bound (inclusive) of the token range of the partition.
+     */
+    public static final String TOKEN_END_KEY = "tokenEnd";
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Maximum number of threads to run partitions concurrently. Optional property, and defaults to the number of
+     * partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (session == null) {
+            initSession();
+        }
+        try {
+            final int count = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+            final List<TokenRange> ranges = getTokenRanges(session.getCluster().getMetadata(), count);
+            final int partitions = Math.min(count, ranges.size());
+            final Properties[] partitionProperties = new Properties[partitions];
+
+            for (int i = 0; i < partitions; i++) {
+                final Token start = ranges.get(i * ranges.size() / partitions).getStart();
+                final Token end = ranges.get((i + 1) * ranges.size() / partitions - 1).getEnd();
+                final Properties props = new Properties();
+                props.setProperty(TOKEN_START_KEY, String.valueOf(start.getValue()));
+                props.setProperty(TOKEN_END_KEY, end.equals(ranges.get(0).getStart()) ?
+                        maxToken(end) : String.valueOf(end.getValue()));
+                partitionProperties[i] = props;
+            }
+
+            final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+            partitionPlan.setPartitions(partitions);
+            partitionPlan.setThreads(threads > 0 ? threads : partitions);
+            partitionPlan.setPartitionProperties(partitionProperties);
+            return partitionPlan;
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Gets the non-wrapping token ranges of the ring in token order, starting from the minimum token, and split to
+     * at least {@code count} token ranges.
+     */
+    private static List<TokenRange> getTokenRanges(final Metadata metadata, final int count) {
+        List<TokenRange> ranges = new ArrayList<TokenRange>();
+        for (final TokenRange range : metadata.getTokenRanges()) {
+            if (range.getStart().equals(range.getEnd())) {
+                // a single token owns the whole ring
+                final Token minToken = metadata.newToken(minToken(range.getStart()));
+                ranges.add(metadata.newTokenRange(minToken, minToken));
+            } else {
+                ranges.addAll(range.unwrap());
+            }
+        }
+        Collections.sort(ranges);
+
+        if (ranges.size() < count) {
+            final int splits = (count + ranges.size() - 1) / ranges.size();
+            final List<TokenRange> splitRanges = new ArrayList<TokenRange>();
+            for (final TokenRange range : ranges) {
+                splitRanges.addAll(range.splitEvenly(splits));
+            }
+            ranges = splitRanges;
+        }
+        return ranges;
+    }
+
+    private static String minToken(final Token token) {
+        final Object value = token.getValue();
+        if (value instanceof Long) {
+            return String.valueOf(Long.MIN_VALUE);
+        }
+        if (value instanceof BigInteger) {
+            return "-1";
+        }
+        throw SupportMessages.MESSAGES.unexpectedDataType("bigint or varint token", token.getType().toString(), value);
+    }
+
+    private static String maxToken(final Token token) {
+        final Object value = token.getValue();
+        if (value instanceof Long) {
+            return String.valueOf(Long.MAX_VALUE);
+        }
+        if (value instanceof BigInteger) {
+            return BigInteger.ONE.shiftLeft(127).toString();
+        }
+        throw SupportMessages.MESSAGES.unexpectedDataType("bigint or varint token", token.getType().toString(), value);
+    }
+}
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
@@ -28,6 +29,7 @@ import org.supercsv.io.ICsvMapReader;
 import org.supercsv.io.ICsvReader;
 
 import static org.jberet.support.io.CsvProperties.BEAN_TYPE_KEY;
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
 
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} that reads from a CSV resource into a user-defined
@@ -67,10 +69,81 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected boolean headerless;
 
+    /**
+     * Whether to save the byte offset of the next record as part of the checkpoint data. Optional property, and
+     * defaults to {@code false}. When set to {@code true}, the checkpoint of this reader is a
+     * {@link ByteOffsetCheckpoint}, which contains the byte offset of the next record (multi-line quoted fields are
+     * accounted for), and the header row, if any. Upon restart, this reader seeks directly to the saved byte offset,
+     * instead of reading and tokenizing all rows before it.
+     * <p>
+     * Resuming from byte offset requires the {@link #resource} to be a local file (a file path, a {@code file:} URL,
+     * or a classpath resource residing in a directory), encoded in a {@link #charset} where line feed is a single byte
+     * that is never part of other characters (e.g., {@code UTF-8} or {@code ISO-8859-1}), and with rows ending with
+     * {@code \n} or {@code \r\n}. Otherwise, this reader falls back to restarting from the saved row number.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean checkpointByteOffset;
+
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read starts. Optional property, and defaults to
+     * 0. This reader skips to the first row that starts at or after this offset, without reading any content before
+     * it, except for the header row.
+     * <p>
+     * Together with {@link #byteEnd}, this property divides the {@link #resource} into byte ranges that can be read
+     * by multiple partitions in parallel, where each row is read by exactly one partition. For example, each
+     * partition may be configured with the byte range generated by {@link ByteRangePartitionMapper}. When reading a
+     * byte range, {@link #start} and {@link #end} are relative to the range, and the {@link #resource} must meet the
+     * same requirements as for {@link #checkpointByteOffset}, and must not contain any line breaks in quoted fields.
+     *
+     * @see #byteEnd
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteStart;
+
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read ends (exclusive). Optional property, and
+     * defaults to 0, i.e., reading till the end of the {@link #resource}. The range actually read ends right before
+     * the first row that starts at or after this offset.
+     *
+     * @see #byteStart
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteEnd;
+
     protected ICsvReader delegateReader;
 
+    /**
+     * Counts bytes read from the resource, when byte offset is tracked for checkpoint.
+     */
+    private LineBoundedInputStream lineBoundedInputStream;
+
+    /**
+     * Raw content of the header row, to be saved as the prefix in {@link ByteOffsetCheckpoint}.
+     */
+    private String resumePrefix;
+
+    /**
+     * The difference between the byte offset in {@link #resource} and the number of bytes read from
+     * {@link #lineBoundedInputStream}, which is non-zero when resuming from a {@link ByteOffsetCheckpoint}.
+     */
+    private long byteOffsetAdjustment;
+
+    /**
+     * The difference between the row number in {@link #resource} and the row number reported by
+     * {@link #delegateReader}, which is non-zero when resuming from a {@link ByteOffsetCheckpoint}.
+     */
+    private int rowNumberAdjustment;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         /**
          * The row number to start reading.  It may be different from the injected field start. During a restart,
          * we would start reading from where it ended during the last run.
@@ -78,7 +151,10 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         if (this.end == 0) {
             this.end = Integer.MAX_VALUE;
         }
-        int startRowNumber = checkpoint == null ? this.start : (Integer) checkpoint;
+        final ByteOffsetCheckpoint offsetCheckpoint =
+                checkpoint instanceof ByteOffsetCheckpoint ? (ByteOffsetCheckpoint) checkpoint : null;
+        int startRowNumber = checkpoint == null ? this.start :
+                offsetCheckpoint != null ? offsetCheckpoint.getRowNumber() : (Integer) checkpoint;
         if (startRowNumber < this.start || startRowNumber > this.end || startRowNumber < 0) {
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
@@ -90,7 +166,47 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
         }
-        final InputStream inputStream = getInputStream(resource, true);
+        final boolean byteRange = byteStart > 0 || byteEnd > 0;
+        if (byteRange && !isByteOffsetSupported(resource, charset)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final long rangeEnd = byteEnd > 0 ? findLineStart(resource, byteEnd, -1) : -1;
+        long rangeStart = 0;
+        byte[] rangePrefix = null;
+        if (byteStart > 0) {
+            long headerLength = 0;
+            if (!headerless) {
+                headerLength = findLineStart(resource, 1, -1);
+                rangePrefix = readPrefix(resource, (int) headerLength).getBytes(StandardCharsets.ISO_8859_1);
+            }
+            rangeStart = Math.max(findLineStart(resource, byteStart, -1), headerLength);
+        }
+
+        InputStream inputStream = null;
+        if (offsetCheckpoint != null && isByteOffsetSupported(resource, charset)) {
+            final InputStream resumeStream = getInputStreamInRange(resource, offsetCheckpoint.getByteOffset(), rangeEnd,
+                    offsetCheckpoint.getPrefixBytes(), null);
+            if (resumeStream != null) {
+                lineBoundedInputStream = new LineBoundedInputStream(resumeStream);
+                inputStream = new UnicodeBOMInputStream(lineBoundedInputStream).skipBOM();
+                resumePrefix = offsetCheckpoint.getPrefix();
+                byteOffsetAdjustment = offsetCheckpoint.getByteOffset() - offsetCheckpoint.getPrefixBytes().length;
+                rowNumberAdjustment = headerless ? offsetCheckpoint.getRowNumber() : offsetCheckpoint.getRowNumber() - 1;
+                startRowNumber = 0;
+            }
+        }
+        if (inputStream == null && checkpointByteOffset && isByteOffsetSupported(resource, charset)) {
+            lineBoundedInputStream = new LineBoundedInputStream(
+                    getInputStreamInRange(resource, rangeStart, rangeEnd, rangePrefix, null));
+            inputStream = new UnicodeBOMInputStream(lineBoundedInputStream).skipBOM();
+            byteOffsetAdjustment = rangePrefix == null ? rangeStart : rangeStart - rangePrefix.length;
+        }
+        if (inputStream == null) {
+            inputStream = byteRange ?
+                    new UnicodeBOMInputStream(getInputStreamInRange(resource, rangeStart, rangeEnd, rangePrefix, null)).skipBOM() :
+                    getInputStream(resource, true);
+        }
+        inputStream = countBytes(inputStream);
         final InputStreamReader r = charset == null ? new InputStreamReader(inputStream) :
                 new InputStreamReader(inputStream, charset);
         if (java.util.List.class.isAssignableFrom(beanType)) {
@@ -112,6 +228,9 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
             if (this.nameMapping == null) {
                 this.nameMapping = header;
             }
+            if (lineBoundedInputStream != null && resumePrefix == null) {
+                resumePrefix = readPrefix(resource, (int) lineBoundedInputStream.getCount());
+            }
         }
         this.cellProcessorInstances = getCellProcessors();
     }
@@ -123,13 +242,15 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
             delegateReader.close();
             delegateReader = null;
         }
+        closeMetrics();
     }
 
     @Override
     public Object readItem() throws Exception {
-        if (delegateReader.getRowNumber() > this.end) {
+        if (delegateReader.getRowNumber() + rowNumberAdjustment > this.end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         final Object result;
         if (delegateReader instanceof org.supercsv.io.ICsvBeanReader) {
             if (cellProcessorInstances.length == 0) {
@@ -153,11 +274,15 @@ public class CsvItemReader extends CsvItemReaderWriterBase implements ItemReader
                 result = ((ICsvMapReader) delegateReader).read(getNameMapping(), cellProcessorInstances);
             }
         }
-        return result;
+        return itemRead(startTime, result);
     }
 
     @Override
-    public Integer checkpointInfo() throws Exception {
-        return delegateReader.getRowNumber();
+    public Serializable checkpointInfo() throws Exception {
+        final int rowNumber = delegateReader.getRowNumber() + rowNumberAdjustment;
+        if (lineBoundedInputStream != null) {
+            return new ByteOffsetCheckpoint(rowNumber, lineBoundedInputStream.getCount() + byteOffsetAdjustment, resumePrefix);
+        }
+        return rowNumber;
     }
 }
@@ -74,6 +74,7 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         SupportLogger.LOGGER.tracef("Open CsvItemWriter with checkpoint %s, which is ignored for CsvItemWriter.%n", checkpoint);
         if (beanType == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, BEAN_TYPE_KEY);
@@ -113,6 +114,7 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
             delegateWriter.close();
             delegateWriter = null;
         }
+        closeMetrics();
     }
 
     @Override
@@ -121,6 +123,7 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
             SupportLogger.LOGGER.tracef("About to write items, number of items %s, element type %s%n",
                     items.size(), items.get(0).getClass());
         }
+        final long startTime = metricsStartTime();
         if (delegateWriter instanceof ICsvBeanWriter) {
             final ICsvBeanWriter writer = (ICsvBeanWriter) delegateWriter;
             if (cellProcessorInstances.length == 0) {
@@ -162,6 +165,7 @@ public class CsvItemWriter extends CsvItemReaderWriterBase implements ItemWriter
             }
         }
         delegateWriter.flush();
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -80,6 +80,7 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
 
     @Override
     public Object readItem() throws Exception {
+        final long startTime = metricsStartTime();
         final Object result = queue.take();
         if (result instanceof Exception) {
             if (result instanceof ReadCompletedException) {
@@ -87,7 +88,7 @@ public class ExcelEventItemReader extends ExcelUserModelItemReader implements It
             }
             throw (Exception) result;
         }
-        return result;
+        return itemRead(startTime, result);
     }
 
     @Override
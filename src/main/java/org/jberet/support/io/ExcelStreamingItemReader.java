@@ -57,6 +57,7 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
         if (currentRowNum == this.end) {
             return null;
         }
+        final long startTime = metricsStartTime();
 
         Map<String, String> resultMap;
         while (sheetStreamReader.hasNext()) {
@@ -76,7 +77,7 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
                         resultMap.put(key, getCellStringValue());
                     } else if (event1 == XMLStreamConstants.END_ELEMENT && "row".equals(sheetStreamReader.getLocalName())) {
                         if (beanType == Map.class) {
-                            return resultMap;
+                            return itemRead(startTime, resultMap);
                         }
                         if (beanType == List.class) {
                             //blank cells have no trace in sheet xml file, so need to match any cell to its column letter
@@ -85,14 +86,14 @@ public class ExcelStreamingItemReader extends ExcelUserModelItemReader implement
                             for (final String h : header) {
                                 resultList.add(resultMap.get(h));
                             }
-                            return resultList;
+                            return itemRead(startTime, resultList);
                         }
                         initJsonFactoryAndObjectMapper();
                         final Object readValue = objectMapper.convertValue(resultMap, beanType);
                         if (!skipBeanValidation) {
                             ItemReaderWriterBase.validate(readValue);
                         }
-                        return readValue;
+                        return itemRead(startTime, readValue);
                     }
                 }
             }
@@ -90,6 +90,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         /**
          * The row number to start reading.  It may be different from the injected field start. During a restart,
          * we would start reading from where it ended during the last run.
@@ -113,7 +114,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
             throw SupportMessages.MESSAGES.invalidStartPosition(startRowNumber, this.start, this.end);
         }
 
-        inputStream = getInputStream(resource, false);
+        inputStream = countBytes(getInputStream(resource, false));
         initWorkbookAndSheet(startRowNumber);
 
         if (header != null) {
@@ -126,6 +127,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
         if (currentRowNum == this.end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         Row row;
         while (rowIterator.hasNext()) {
             row = rowIterator.next();
@@ -145,7 +147,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
                         resultList.add(getCellValue(c, c.getCellType()));
                     }
                 }
-                return resultList;
+                return itemRead(startTime, resultList);
             } else {
                 final Map<String, Object> resultMap = new HashMap<String, Object>();
                 for (int cn = 0; cn < header.length; cn++) {
@@ -155,7 +157,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
                     }
                 }
                 if (java.util.Map.class.isAssignableFrom(beanType)) {
-                    return resultMap;
+                    return itemRead(startTime, resultMap);
                 } else {
                     if (objectMapper == null) {
                         initJsonFactoryAndObjectMapper();
@@ -164,7 +166,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
                     if (!skipBeanValidation) {
                         ItemReaderWriterBase.validate(readValue);
                     }
-                    return readValue;
+                    return itemRead(startTime, readValue);
                 }
             }
         }
@@ -187,6 +189,7 @@ public class ExcelUserModelItemReader extends ExcelItemReaderWriterBase implemen
             }
             inputStream = null;
         }
+        closeMetrics();
     }
 
     protected Object getCellValue(final Cell c, final CellType cellType) {
@@ -91,6 +91,7 @@ public class ExcelUserModelItemWriter extends ExcelItemReaderWriterBase implemen
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         //if template is used, create workbook based on template resource, and try to get header from template
         if (templateResource != null) {
             InputStream templateInputStream = null;
@@ -154,6 +155,7 @@ public class ExcelUserModelItemWriter extends ExcelItemReaderWriterBase implemen
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         int nextRowNum = currentRowNum + 1;
         Row row = null;
         if (List.class.isAssignableFrom(beanType)) {
@@ -194,6 +196,7 @@ public class ExcelUserModelItemWriter extends ExcelItemReaderWriterBase implemen
         if (sheet instanceof SXSSFSheet) {
             ((SXSSFSheet) sheet).flushRows();
         }
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -224,6 +227,7 @@ public class ExcelUserModelItemWriter extends ExcelItemReaderWriterBase implemen
             }
             workbook = null;
         }
+        closeMetrics();
     }
 
     /**
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+/**
+ * Encodes data items into, and decodes data items from, the binary content of messages, so that the same format is
+ * used by an item writer and the item reader on the other end. It can be specified as {@code codec} batch property of
+ * {@link JmsItemReader}, {@link JmsItemWriter}, {@link ArtemisItemReader} and {@link ArtemisItemWriter}.
+ * <p>
+ * The following implementations are included:
+ * <ul>
+ * <li>{@link JsonItemCodec}: UTF-8 JSON content with Jackson;
+ * <li>{@link SmileItemCodec}: Jackson Smile content, a compact binary equivalent of JSON.
+ * </ul>
+ *
+ * @see JmsItemReaderWriterBase#codec
+ * @see ArtemisItemReaderWriterBase#codec
+ * @since 2.0.0
+ */
+public interface ItemCodec extends ItemEncoder, ItemDecoder {
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the binary content of a message or record into a data item of the target {@code beanType}. Item readers
+ * pass the binary content as it is received, without first copying it or converting it to {@code String}.
+ * Implementations must have a public no-arg constructor, so that they can be specified as a batch property, and
+ * need not be thread-safe.
+ * <p>
+ * To use binary formats such as Avro or Protocol Buffers, implement this interface with the corresponding library,
+ * reading directly from the byte array range or {@code ByteBuffer}.
+ *
+ * @see JsonItemDecoder
+ * @see KafkaItemReader#decoder
+ * @since 2.0.0
+ */
+public interface ItemDecoder {
+    /**
+     * Decodes a range of a byte array into a data item.
+     *
+     * @param data     the byte array holding the binary content
+     * @param offset   the offset of the binary content in {@code data}
+     * @param length   the length of the binary content
+     * @param beanType the type of the data item to decode into
+     * @return the decoded data item
+     * @throws Exception if failed to decode
+     */
+    Object decode(byte[] data, int offset, int length, Class<?> beanType) throws Exception;
+
+    /**
+     * Decodes the remaining bytes of a {@code ByteBuffer} into a data item. The buffer may be a direct buffer.
+     *
+     * @param data     the {@code ByteBuffer} holding the binary content between its position and limit
+     * @param beanType the type of the data item to decode into
+     * @return the decoded data item
+     * @throws Exception if failed to decode
+     */
+    Object decode(ByteBuffer data, Class<?> beanType) throws Exception;
+}
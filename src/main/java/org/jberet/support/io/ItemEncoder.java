@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.OutputStream;
+
+/**
+ * Encodes a data item into the binary content of a message or record. Item writers pass an {@code OutputStream} that
+ * writes directly into the message body, without first encoding the data item into an intermediate byte array.
+ * Implementations must have a public no-arg constructor, so that they can be specified as a batch property, and
+ * need not be thread-safe.
+ *
+ * @see ItemCodec
+ * @since 2.0.0
+ */
+public interface ItemEncoder {
+    /**
+     * Encodes a data item into an {@code OutputStream}. Implementations should not close {@code out}.
+     *
+     * @param item the data item to encode
+     * @param out  the {@code OutputStream} to write the binary content to
+     * @throws Exception if failed to encode
+     */
+    void encode(Object item, OutputStream out) throws Exception;
+}
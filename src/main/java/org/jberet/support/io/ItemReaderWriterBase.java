@@ -10,17 +10,29 @@
 
 package org.jberet.support.io;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.batch.api.BatchProperty;
+import javax.batch.runtime.context.StepContext;
 import javax.inject.Inject;
 import javax.naming.InitialContext;
 import javax.naming.NamingException;
@@ -66,6 +78,34 @@ public abstract class ItemReaderWriterBase {
     @BatchProperty
     protected boolean skipBeanValidation;
 
+    /**
+     * The class of {@link MetricsSink} to publish runtime metrics of this reader or writer, such as the number of data
+     * items and bytes, their rates, and a latency histogram of {@code readItem()} or {@code writeItems(List)} calls.
+     * Optional property, and defaults to null (metrics are not collected). For example,
+     * {@code org.jberet.support.io.JmxMetricsSink} to register metrics as JMX MBean while this reader or writer is
+     * open.
+     *
+     * @see ItemReaderWriterMetrics
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected Class metricsSink;
+
+    @Inject
+    protected StepContext stepContext;
+
+    /**
+     * Runtime metrics of this reader or writer, or null if {@link #metricsSink} is not specified.
+     *
+     * @since 2.0.0
+     */
+    protected ItemReaderWriterMetrics metrics;
+
+    private MetricsSink metricsSinkInstance;
+
+    private static final AtomicInteger metricsSequence = new AtomicInteger();
+
     boolean skipWritingHeader;
 
     private static class Holder {
@@ -116,6 +156,110 @@ public abstract class ItemReaderWriterBase {
         return v;
     }
 
+    /**
+     * Creates and publishes {@link #metrics} if {@link #metricsSink} is specified. Subclasses should call this method
+     * at the beginning of {@code open(Serializable)}.
+     *
+     * @throws Exception if failed to instantiate {@link #metricsSink}
+     * @since 2.0.0
+     */
+    protected void openMetrics() throws Exception {
+        if (metricsSink == null || metrics != null) {
+            return;
+        }
+        final String stepName = stepContext == null ? null : stepContext.getStepName();
+        final String name = (stepName == null ? "" : stepName + '.') + getClass().getSimpleName() + '.' +
+                metricsSequence.incrementAndGet();
+        metrics = new ItemReaderWriterMetrics(name, getClass().getName(), stepName);
+        final Class<?> sinkClass = metricsSink;
+        metricsSinkInstance = (MetricsSink) sinkClass.getDeclaredConstructor().newInstance();
+        try {
+            metricsSinkInstance.register(metrics);
+        } catch (final Exception e) {
+            SupportLogger.LOGGER.failToPublishMetrics(e, name, metricsSink.getName());
+        }
+    }
+
+    /**
+     * Stops and withdraws {@link #metrics}, if any. Subclasses should call this method in {@code close()}.
+     *
+     * @since 2.0.0
+     */
+    protected void closeMetrics() {
+        if (metrics != null) {
+            metrics.close();
+            try {
+                metricsSinkInstance.unregister(metrics);
+            } catch (final Exception e) {
+                SupportLogger.LOGGER.failToPublishMetrics(e, metrics.getName(), metricsSink.getName());
+            }
+            SupportLogger.LOGGER.tracef("Closed metrics %s", metrics);
+            metrics = null;
+        }
+    }
+
+    /**
+     * Gets the start time of a {@code readItem()} or {@code writeItems(List)} call, to be passed to
+     * {@link #itemRead(long, Object)} or {@link #itemsWritten(long, int)}.
+     *
+     * @return the value of {@code System.nanoTime()} if metrics is enabled; 0 otherwise
+     * @since 2.0.0
+     */
+    protected final long metricsStartTime() {
+        return metrics == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records a {@code readItem()} call in {@link #metrics}, if enabled.
+     *
+     * @param startTime the start time from {@link #metricsStartTime()}
+     * @param item      the data item read, or null if no more data item
+     * @param <T>       the type of data item
+     * @return {@code item}
+     * @since 2.0.0
+     */
+    protected final <T> T itemRead(final long startTime, final T item) {
+        if (metrics != null) {
+            metrics.recordCall(startTime, item == null ? 0 : 1);
+        }
+        return item;
+    }
+
+    /**
+     * Records a {@code writeItems(List)} call in {@link #metrics}, if enabled.
+     *
+     * @param startTime the start time from {@link #metricsStartTime()}
+     * @param count     the number of data items written
+     * @since 2.0.0
+     */
+    protected final void itemsWritten(final long startTime, final int count) {
+        if (metrics != null) {
+            metrics.recordCall(startTime, count);
+        }
+    }
+
+    /**
+     * Wraps {@code inputStream} to count bytes read in {@link #metrics}, if enabled.
+     *
+     * @param inputStream the {@code InputStream} of the reader resource
+     * @return the wrapping {@code InputStream} if metrics is enabled; otherwise {@code inputStream} itself
+     * @since 2.0.0
+     */
+    protected final InputStream countBytes(final InputStream inputStream) {
+        return metrics == null || inputStream == null ? inputStream : metrics.countBytes(inputStream);
+    }
+
+    /**
+     * Wraps {@code outputStream} to count bytes written in {@link #metrics}, if enabled.
+     *
+     * @param outputStream the {@code OutputStream} of the writer resource
+     * @return the wrapping {@code OutputStream} if metrics is enabled; otherwise {@code outputStream} itself
+     * @since 2.0.0
+     */
+    protected final OutputStream countBytes(final OutputStream outputStream) {
+        return metrics == null ? outputStream : metrics.countBytes(outputStream);
+    }
+
     /**
      * Gets an instance of {@code java.io.InputStream} that represents the reader resource.
      *
@@ -163,6 +307,224 @@ public abstract class ItemReaderWriterBase {
         return inputStream;
     }
 
+    /**
+     * Gets the local file that backs the reader resource, so that it can be accessed randomly. The resource may be
+     * specified as a file path, a {@code file:} URL, or a classpath resource residing in a directory.
+     *
+     * @param inputResource the location of the input resource
+     * @return {@code java.io.File} backing the reader resource, or null if the resource is not a local file
+     * @since 2.0.0
+     */
+    protected static File getResourceFile(final String inputResource) {
+        if (inputResource == null) {
+            return null;
+        }
+        URL url;
+        try {
+            url = new URL(inputResource);
+        } catch (final MalformedURLException e) {
+            final File file = new File(inputResource);
+            if (file.isFile()) {
+                return file;
+            }
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl == null) {
+                cl = ItemReaderWriterBase.class.getClassLoader();
+            }
+            url = cl.getResource(inputResource);
+        }
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                final File file = new File(url.toURI());
+                if (file.isFile()) {
+                    return file;
+                }
+            } catch (final URISyntaxException | IllegalArgumentException e) {
+                SupportLogger.LOGGER.tracef("The resource %s is not a local file, %s%n", inputResource, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets an instance of {@code java.io.InputStream} that reads the reader resource starting from the byte
+     * {@code offset}. The underlying {@code java.nio.channels.FileChannel} is positioned directly at {@code offset},
+     * without reading any content before it.
+     *
+     * @param inputResource the location of the input resource, which must be a local file
+     * @param offset        the byte offset to start reading
+     * @return {@code java.io.InputStream} positioned at {@code offset}, or null if the resource is not a local file
+     * @see #getResourceFile(String)
+     * @since 2.0.0
+     */
+    protected static InputStream getInputStreamAt(final String inputResource, final long offset) {
+        final File file = getResourceFile(inputResource);
+        if (file == null) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(offset);
+            return Channels.newInputStream(channel);
+        } catch (final IOException e) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (final IOException e1) {
+                    SupportLogger.LOGGER.failToClose(e1, inputResource);
+                }
+            }
+            throw SupportMessages.MESSAGES.failToOpenStream(e, inputResource);
+        }
+    }
+
+    /**
+     * Gets an instance of {@code java.io.InputStream} that resumes reading the reader resource from the position saved
+     * in {@code checkpoint}. The returned stream consists of the prefix saved in {@code checkpoint}, followed by the
+     * resource content starting from the saved byte offset.
+     *
+     * @param inputResource the location of the input resource, which must be a local file
+     * @param checkpoint    the checkpoint to resume from
+     * @return {@code java.io.InputStream} to resume reading, or null if the resource is not a local file
+     * @see #getInputStreamAt(String, long)
+     * @since 2.0.0
+     */
+    protected static InputStream getInputStreamAt(final String inputResource, final ByteOffsetCheckpoint checkpoint) {
+        return getInputStreamInRange(inputResource, checkpoint.getByteOffset(), -1, checkpoint.getPrefixBytes(), null);
+    }
+
+    /**
+     * Gets an instance of {@code java.io.InputStream} that reads the reader resource from byte offset {@code from}
+     * (inclusive) to byte offset {@code to} (exclusive), optionally preceded by {@code prefix} and followed by
+     * {@code suffix}. The underlying {@code java.nio.channels.FileChannel} is positioned directly at {@code from},
+     * without reading any content before it.
+     *
+     * @param inputResource the location of the input resource, which must be a local file
+     * @param from          the byte offset to start reading
+     * @param to            the byte offset to stop reading, or a negative number to read till the end of the resource
+     * @param prefix        bytes to return before the resource content, may be null
+     * @param suffix        bytes to return after the resource content, may be null
+     * @return {@code java.io.InputStream} for the byte range, or null if the resource is not a local file
+     * @see #findLineStart(String, long, int)
+     * @since 2.0.0
+     */
+    protected static InputStream getInputStreamInRange(final String inputResource, final long from, final long to,
+                                                       final byte[] prefix, final byte[] suffix) {
+        InputStream inputStream = getInputStreamAt(inputResource, from);
+        if (inputStream == null) {
+            return null;
+        }
+        if (to >= 0) {
+            inputStream = new ByteRangeInputStream(inputStream, Math.max(to - from, 0));
+        }
+        if (prefix != null && prefix.length > 0) {
+            inputStream = new SequenceInputStream(new ByteArrayInputStream(prefix), inputStream);
+        }
+        if (suffix != null && suffix.length > 0) {
+            inputStream = new SequenceInputStream(inputStream, new ByteArrayInputStream(suffix));
+        }
+        return inputStream;
+    }
+
+    /**
+     * Finds the byte offset of the first line that starts at or after {@code byteOffset} in the reader resource. This is
+     * used to re-synchronize on record boundary when reading a byte range of line-oriented resource. Lines are
+     * separated by line feed ({@code \n}), so the resource must be in an encoding where line feed is a single byte that
+     * is never part of other characters.
+     *
+     * @param inputResource the location of the input resource, which must be a local file
+     * @param byteOffset    the byte offset to start searching
+     * @param firstChar     if not negative, only lines whose first non-whitespace character is {@code firstChar}
+     *                      are considered
+     * @return the byte offset of the line found, or the length of the resource if no such line is found
+     * @throws IOException if failed to read the resource
+     * @since 2.0.0
+     */
+    protected static long findLineStart(final String inputResource, final long byteOffset, final int firstChar)
+            throws IOException {
+        if (byteOffset <= 0 && firstChar < 0) {
+            return 0;
+        }
+        final long from = Math.max(byteOffset - 1, 0);
+        final InputStream inputStream = getInputStreamAt(inputResource, from);
+        if (inputStream == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, inputResource, RESOURCE_KEY);
+        }
+        try (final InputStream in = new BufferedInputStream(inputStream)) {
+            long position = from;
+            long lineStart = byteOffset <= 0 ? 0 : -1;
+            boolean lineHead = lineStart == 0;
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == '\n') {
+                    lineStart = position + 1;
+                    lineHead = true;
+                } else if (lineHead) {
+                    if (firstChar < 0 || b == firstChar) {
+                        return lineStart;
+                    }
+                    if (b != ' ' && b != '\t' && b != '\r') {
+                        lineHead = false;
+                    }
+                }
+                position++;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Checks if line feed is encoded as a single byte that is never part of other characters in {@code charset}, so
+     * that records in line-oriented resources can be located by byte offset.
+     *
+     * @param charset the charset name, or null for the platform default charset
+     * @return true if line feed is a single byte in {@code charset}; false otherwise
+     * @since 2.0.0
+     */
+    protected static boolean isLineFeedSingleByte(final String charset) {
+        final Charset cs = charset == null ? Charset.defaultCharset() : Charset.forName(charset);
+        return StandardCharsets.UTF_8.equals(cs) || cs.newEncoder().maxBytesPerChar() == 1.0f;
+    }
+
+    /**
+     * Checks if records in the line-oriented {@code inputResource} can be located by byte offset, i.e., the resource
+     * is a local file, and line feed is a single byte in {@code charset}.
+     *
+     * @param inputResource the location of the input resource
+     * @param charset the charset name, or null for the platform default charset
+     * @return true if records can be located by byte offset; false otherwise
+     * @see #isLineFeedSingleByte(String)
+     * @since 2.0.0
+     */
+    protected static boolean isByteOffsetSupported(final String inputResource, final String charset) {
+        return getResourceFile(inputResource) != null && isLineFeedSingleByte(charset);
+    }
+
+    /**
+     * Reads the first {@code length} bytes of the reader resource, which is typically saved as the prefix in
+     * {@link ByteOffsetCheckpoint}.
+     *
+     * @param inputResource the location of the input resource, which must be a local file
+     * @param length        number of bytes to read
+     * @return the raw bytes as {@code ISO-8859-1} string, or null if the resource is not a local file
+     * @throws IOException if failed to read the resource
+     * @since 2.0.0
+     */
+    protected static String readPrefix(final String inputResource, final int length) throws IOException {
+        final InputStream inputStream = getInputStreamAt(inputResource, 0L);
+        if (inputStream == null) {
+            return null;
+        }
+        try {
+            final byte[] bytes = new byte[length];
+            new DataInputStream(inputStream).readFully(bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        } finally {
+            inputStream.close();
+        }
+    }
+
     protected OutputStream getOutputStream(final String writeMode) {
         if (resource == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, RESOURCE_KEY);
@@ -207,10 +569,10 @@ public abstract class ItemReaderWriterBase {
      * @param exists whether the {@code file} exists
      * @param append append mode if true; overwrite mode if false
      * @param failIfDirsNotExist if true and if the parent dirs of {@code file} do not exist, throw exception
-     * @return the created {@code FileOutputStream}
+     * @return the created {@code FileOutputStream}, which counts bytes written if metrics is enabled
      * @throws IOException if exception from file operations
      */
-    private FileOutputStream newFileOutputStream(final File file,
+    private OutputStream newFileOutputStream(final File file,
                                                  final boolean exists,
                                                  final boolean append,
                                                  final boolean failIfDirsNotExist) throws IOException {
@@ -233,7 +595,62 @@ public abstract class ItemReaderWriterBase {
             skipWritingHeader = true;
             fos.write(NEW_LINE.getBytes());
         }
-        return fos;
+        return countBytes(fos);
     }
 
+    /**
+     * An {@code java.io.InputStream} that returns at most a fixed number of bytes from the wrapped stream.
+     */
+    private static final class ByteRangeInputStream extends FilterInputStream {
+        private long remaining;
+
+        private ByteRangeInputStream(final InputStream in, final long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int b = in.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return -1;
+            }
+            final int n = in.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = in.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(in.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
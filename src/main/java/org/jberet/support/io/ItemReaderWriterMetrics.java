@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime metrics of an item reader or writer: the number of data items and bytes, their rates, and a latency
+ * histogram of {@code readItem()} or {@code writeItems(List)} calls. Latency buckets are powers of 2 in nanoseconds,
+ * from 1 microsecond up to about 1 minute, so that percentiles are estimated within a factor of 2 with fixed memory.
+ * <p>
+ * An instance is created and updated by {@link ItemReaderWriterBase} when {@link ItemReaderWriterBase#metricsSink}
+ * is specified, and is published through that {@link MetricsSink}. All update and query methods are thread-safe.
+ *
+ * @see ItemReaderWriterBase#metricsSink
+ * @since 2.0.0
+ */
+public final class ItemReaderWriterMetrics implements ItemReaderWriterMetricsMBean {
+    /**
+     * Bucket {@code i} holds latencies up to {@code 2 ** (i + MIN_BUCKET_SHIFT)} nanoseconds.
+     */
+    private static final int MIN_BUCKET_SHIFT = 10;
+
+    private static final int BUCKET_COUNT = 27;
+
+    private final String name;
+
+    private final String type;
+
+    private final String stepName;
+
+    private final long startNanos = System.nanoTime();
+
+    private volatile long endNanos;
+
+    private final LongAdder itemCount = new LongAdder();
+
+    private final LongAdder byteCount = new LongAdder();
+
+    private final LongAdder callCount = new LongAdder();
+
+    private final LongAdder totalLatency = new LongAdder();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    private final LongAdder[] latencyBuckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * Creates metrics for an item reader or writer.
+     *
+     * @param name     the unique name of the metrics, e.g., as part of a JMX {@code ObjectName}
+     * @param type     the class name of the item reader or writer
+     * @param stepName the name of the step that runs the item reader or writer, may be null
+     */
+    public ItemReaderWriterMetrics(final String name, final String type, final String stepName) {
+        this.name = name;
+        this.type = type;
+        this.stepName = stepName;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets the unique name of this metrics.
+     *
+     * @return the name of this metrics
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String getStepName() {
+        return stepName;
+    }
+
+    /**
+     * Records a {@code readItem()} or {@code writeItems(List)} call.
+     *
+     * @param startTime the value of {@code System.nanoTime()} when the call started
+     * @param items     the number of data items read or written in the call
+     */
+    public void recordCall(final long startTime, final int items) {
+        final long latency = System.nanoTime() - startTime;
+        callCount.increment();
+        itemCount.add(items);
+        totalLatency.add(latency);
+        latencyBuckets[getBucket(latency)].increment();
+        long max;
+        while (latency > (max = maxLatency.get()) && !maxLatency.compareAndSet(max, latency)) {
+            // retry
+        }
+    }
+
+    /**
+     * Records bytes read from or written to the resource.
+     *
+     * @param bytes the number of bytes
+     */
+    public void addBytes(final long bytes) {
+        byteCount.add(bytes);
+    }
+
+    /**
+     * Stops the clock for rates, when the item reader or writer is closed.
+     */
+    public void close() {
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Wraps an {@code InputStream} to count the bytes read from it into this metrics.
+     *
+     * @param inputStream the {@code InputStream} to wrap
+     * @return the wrapping {@code InputStream}
+     */
+    public InputStream countBytes(final InputStream inputStream) {
+        return new CountingInputStream(inputStream);
+    }
+
+    /**
+     * Wraps an {@code OutputStream} to count the bytes written to it into this metrics.
+     *
+     * @param outputStream the {@code OutputStream} to wrap
+     * @return the wrapping {@code OutputStream}
+     */
+    public OutputStream countBytes(final OutputStream outputStream) {
+        return new CountingOutputStream(outputStream);
+    }
+
+    @Override
+    public long getItemCount() {
+        return itemCount.sum();
+    }
+
+    @Override
+    public long getByteCount() {
+        return byteCount.sum();
+    }
+
+    @Override
+    public long getCallCount() {
+        return callCount.sum();
+    }
+
+    @Override
+    public double getItemsPerSecond() {
+        return perSecond(getItemCount());
+    }
+
+    @Override
+    public double getBytesPerSecond() {
+        return perSecond(getByteCount());
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        final long calls = getCallCount();
+        return calls == 0 ? 0 : totalLatency.sum() / 1000.0 / calls;
+    }
+
+    @Override
+    public double getMaxLatencyMicros() {
+        return maxLatency.get() / 1000.0;
+    }
+
+    @Override
+    public double getLatencyP50Micros() {
+        return getLatencyPercentileMicros(50);
+    }
+
+    @Override
+    public double getLatencyP99Micros() {
+        return getLatencyPercentileMicros(99);
+    }
+
+    @Override
+    public double getLatencyP999Micros() {
+        return getLatencyPercentileMicros(99.9);
+    }
+
+    /**
+     * Gets the latency percentile in microseconds, estimated as the upper bound of its histogram bucket, and capped
+     * by the maximum latency.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the latency percentile in microseconds
+     */
+    public double getLatencyPercentileMicros(final double percentile) {
+        final long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for (final long c : histogram) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(total * percentile / 100);
+        long count = 0;
+        for (int i = 0; i < histogram.length - 1; i++) {
+            count += histogram[i];
+            if (count >= rank) {
+                return Math.min(getBucketBound(i), maxLatency.get()) / 1000.0;
+            }
+        }
+        return getMaxLatencyMicros();
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        final long[] histogram = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] = latencyBuckets[i].sum();
+        }
+        return histogram;
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsNanos() {
+        final long[] bounds = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bounds[i] = i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : getBucketBound(i);
+        }
+        return bounds;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemReaderWriterMetrics{" +
+                "name='" + name + '\'' +
+                ", itemCount=" + getItemCount() +
+                ", byteCount=" + getByteCount() +
+                ", callCount=" + getCallCount() +
+                ", itemsPerSecond=" + getItemsPerSecond() +
+                ", meanLatencyMicros=" + getMeanLatencyMicros() +
+                ", latencyP99Micros=" + getLatencyP99Micros() +
+                '}';
+    }
+
+    private double perSecond(final long count) {
+        final long end = endNanos == 0 ? System.nanoTime() : endNanos;
+        final long elapsed = end - startNanos;
+        return elapsed <= 0 ? 0 : count * 1e9 / elapsed;
+    }
+
+    private static long getBucketBound(final int bucket) {
+        return 1L << (bucket + MIN_BUCKET_SHIFT);
+    }
+
+    private static int getBucket(final long latency) {
+        if (latency <= 1L << MIN_BUCKET_SHIFT) {
+            return 0;
+        }
+        // smallest i such that latency <= 2 ** (i + MIN_BUCKET_SHIFT)
+        final int bucket = 64 - Long.numberOfLeadingZeros(latency - 1) - MIN_BUCKET_SHIFT;
+        return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    private final class CountingInputStream extends FilterInputStream {
+        private CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = in.read();
+            if (b >= 0) {
+                byteCount.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int n = in.read(b, off, len);
+            if (n > 0) {
+                byteCount.add(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = in.skip(n);
+            if (skipped > 0) {
+                byteCount.add(skipped);
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    private final class CountingOutputStream extends FilterOutputStream {
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            byteCount.increment();
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            byteCount.add(len);
+        }
+    }
+}
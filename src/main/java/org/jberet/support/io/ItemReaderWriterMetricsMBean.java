@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+/**
+ * Management interface of {@link ItemReaderWriterMetrics}, exposing the runtime metrics of an item reader or writer
+ * as JMX MBean attributes.
+ *
+ * @see JmxMetricsSink
+ * @since 2.0.0
+ */
+public interface ItemReaderWriterMetricsMBean {
+    /**
+     * Gets the class name of the item reader or writer.
+     *
+     * @return the class name of the item reader or writer
+     */
+    String getType();
+
+    /**
+     * Gets the name of the step that runs the item reader or writer.
+     *
+     * @return the step name, or null if not available
+     */
+    String getStepName();
+
+    /**
+     * Gets the number of data items read or written.
+     *
+     * @return the number of data items
+     */
+    long getItemCount();
+
+    /**
+     * Gets the number of bytes read from or written to the resource. Only item readers and writers that access the
+     * resource as byte stream count bytes.
+     *
+     * @return the number of bytes
+     */
+    long getByteCount();
+
+    /**
+     * Gets the number of {@code readItem()} or {@code writeItems(List)} calls.
+     *
+     * @return the number of calls
+     */
+    long getCallCount();
+
+    /**
+     * Gets the number of data items read or written per second, since the item reader or writer was opened until
+     * now, or until it was closed.
+     *
+     * @return the number of data items per second
+     */
+    double getItemsPerSecond();
+
+    /**
+     * Gets the number of bytes read or written per second, since the item reader or writer was opened until now, or
+     * until it was closed.
+     *
+     * @return the number of bytes per second
+     */
+    double getBytesPerSecond();
+
+    /**
+     * Gets the mean latency of {@code readItem()} or {@code writeItems(List)} calls in microseconds.
+     *
+     * @return the mean latency in microseconds
+     */
+    double getMeanLatencyMicros();
+
+    /**
+     * Gets the maximum latency of {@code readItem()} or {@code writeItems(List)} calls in microseconds.
+     *
+     * @return the maximum latency in microseconds
+     */
+    double getMaxLatencyMicros();
+
+    /**
+     * Gets the median latency in microseconds, estimated as the upper bound of its histogram bucket.
+     *
+     * @return the median latency in microseconds
+     */
+    double getLatencyP50Micros();
+
+    /**
+     * Gets the 99th percentile latency in microseconds, estimated as the upper bound of its histogram bucket.
+     *
+     * @return the 99th percentile latency in microseconds
+     */
+    double getLatencyP99Micros();
+
+    /**
+     * Gets the 99.9th percentile latency in microseconds, estimated as the upper bound of its histogram bucket.
+     *
+     * @return the 99.9th percentile latency in microseconds
+     */
+    double getLatencyP999Micros();
+
+    /**
+     * Gets the latency histogram, i.e., the number of calls in each bucket of {@link #getLatencyBucketBoundsNanos()}.
+     *
+     * @return the number of calls in each latency bucket
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Gets the upper bound (inclusive) in nanoseconds of each latency histogram bucket. The last bucket is unbounded.
+     *
+     * @return the upper bound of each latency bucket
+     */
+    long[] getLatencyBucketBoundsNanos();
+}
@@ -10,7 +10,9 @@
 
 package org.jberet.support.io;
 
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import javax.batch.api.BatchProperty;
@@ -25,6 +27,8 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} that reads data items from CSV files using jackson-dataformat-csv.
  *
@@ -141,12 +145,45 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
     @BatchProperty
     protected Class inputDecorator;
 
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read starts. Optional property, and defaults to
+     * 0. This reader skips to the first row that starts at or after this offset, without parsing any content before
+     * it, except for the header row if {@link #useHeader} is true. {@link #skipFirstDataRow} only applies to the
+     * range starting at 0.
+     * <p>
+     * Together with {@link #byteEnd}, this property divides the {@link #resource} into byte ranges that can be read
+     * by multiple partitions in parallel, where each row is read by exactly one partition. For example, each
+     * partition may be configured with the byte range generated by {@link ByteRangePartitionMapper}. When reading a
+     * byte range, {@link #start} and {@link #end} are relative to the range, the {@link #resource} must be a local
+     * file in {@code UTF-8} encoding without any line breaks in quoted fields, and {@link #inputDecorator} must not
+     * be specified.
+     *
+     * @see #byteEnd
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteStart;
+
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read ends (exclusive). Optional property, and
+     * defaults to 0, i.e., reading till the end of the {@link #resource}. The range actually read ends right before
+     * the first row that starts at or after this offset.
+     *
+     * @see #byteStart
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteEnd;
+
     private CsvParser csvParser;
     private int rowNumber;
     private boolean rawAccess;
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
@@ -157,8 +194,9 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
         }
         init();
-        csvParser = (CsvParser) JsonItemReader.configureJsonParser(this, inputDecorator, deserializationProblemHandlers,
-                jsonParserFeatures);
+        rawAccess = beanType == List.class || beanType == String[].class;
+        csvParser = (CsvParser) JsonItemReader.configureJsonParser(this, getRangeInputStream(), inputDecorator,
+                deserializationProblemHandlers, jsonParserFeatures);
 
         if (csvParserFeatures != null) {
             for (final Map.Entry<String, String> e : csvParserFeatures.entrySet()) {
@@ -184,7 +222,6 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             }
         }
 
-        rawAccess = beanType == List.class || beanType == String[].class;
         if (!rawAccess) {
             CsvSchema schema;
             if (columns != null) {
@@ -201,7 +238,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             if (escapeChar != null) {
                 schema = schema.withEscapeChar(escapeChar.charAt(0));
             }
-            if (skipFirstDataRow != null) {
+            if (skipFirstDataRow != null && byteStart <= 0) {
                 schema = schema.withSkipFirstDataRow(Boolean.parseBoolean(skipFirstDataRow.trim()));
             }
             csvParser.setSchema(schema);
@@ -218,6 +255,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
             csvParser.close();
             csvParser = null;
         }
+        closeMetrics();
     }
 
     @Override
@@ -225,6 +263,7 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
         if (rowNumber >= end) {
             return null;
         }
+        final long startTime = metricsStartTime();
 
         JsonToken token;
         final Object readValue;
@@ -261,7 +300,35 @@ public class JacksonCsvItemReader extends JacksonCsvItemReaderWriterBase impleme
 
             readValue = objectMapper.readValue(csvParser, beanType);
         }
-        return readValue;
+        return itemRead(startTime, readValue);
+    }
+
+    /**
+     * Gets the input stream for the byte range specified by {@link #byteStart} and {@link #byteEnd}, which starts with
+     * the header row if {@link #useHeader} is true.
+     *
+     * @return the input stream for the byte range, or for the whole resource if no byte range is specified
+     * @throws Exception any exception raised
+     */
+    private InputStream getRangeInputStream() throws Exception {
+        if (byteStart <= 0 && byteEnd <= 0) {
+            return getInputStream(resource, false);
+        }
+        if (getResourceFile(resource) == null || inputDecorator != null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+        }
+        final long rangeEnd = byteEnd > 0 ? findLineStart(resource, byteEnd, -1) : -1;
+        long rangeStart = 0;
+        byte[] rangePrefix = null;
+        if (byteStart > 0) {
+            long headerLength = 0;
+            if (useHeader && !rawAccess) {
+                headerLength = findLineStart(resource, 1, -1);
+                rangePrefix = readPrefix(resource, (int) headerLength).getBytes(StandardCharsets.ISO_8859_1);
+            }
+            rangeStart = Math.max(findLineStart(resource, byteStart, -1), headerLength);
+        }
+        return getInputStreamInRange(resource, rangeStart, rangeEnd, rangePrefix, null);
     }
 
     /**
@@ -107,14 +107,17 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         for (final Object o : items) {
             csvGenerator.writeObject(o);
         }
         csvGenerator.flush();
+        itemsWritten(startTime, items.size());
     }
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         init();
         csvGenerator = (CsvGenerator) JsonItemWriter.configureJsonGenerator(jsonFactory, getOutputStream(writeMode), outputDecorator, jsonGeneratorFeatures);
 
@@ -158,6 +161,7 @@ public class JacksonCsvItemWriter extends JacksonCsvItemReaderWriterBase impleme
             csvGenerator.close();
             csvGenerator = null;
         }
+        closeMetrics();
     }
 
     @Override
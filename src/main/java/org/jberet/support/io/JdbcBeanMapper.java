@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.AnnotatedConstructor;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import org.jberet.support._private.SupportLogger;
+
+/**
+ * Maps rows of a {@code java.sql.ResultSet} directly to instances of a bean type, with column-to-property bindings
+ * resolved once with Jackson bean introspection, so that Jackson property names, ignorals and creators are honored as
+ * in {@code ObjectMapper#convertValue(Object, Class)}. Bean instances are created and filled through
+ * {@code java.lang.invoke.MethodHandle}, and primitive properties are filled with typed {@code ResultSet} getters
+ * without boxing. A column value whose type does not match the bean property is converted to the property type with
+ * {@code ObjectMapper#convertValue(Object, JavaType)}.
+ * <p>
+ * Such conversion only knows the property type, but not the annotations on the property. So bean types with any
+ * property annotated to customize its deserialization, e.g., with {@code @JsonFormat} or {@code @JsonDeserialize}, are
+ * not mapped directly, and are converted as a whole with {@code ObjectMapper#convertValue(Object, Class)}.
+ *
+ * @see JdbcItemReader#compiledBeanMapping
+ * @since 2.0.0
+ */
+final class JdbcBeanMapper {
+    private static final int OBJECT = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int FLOAT = 4;
+    private static final int SHORT = 5;
+    private static final int BYTE = 6;
+    private static final int BOOLEAN = 7;
+
+    private static final MethodType OBJECT_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new bean instance, of type {@code ()Object}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Setter for each column, or null if the column is not mapped.
+     */
+    private final MethodHandle[] setters;
+
+    /**
+     * Kind of setter for each column, e.g., {@link #OBJECT} or {@link #INT}.
+     */
+    private final int[] kinds;
+
+    /**
+     * Property type for each column, used to check and convert column values of {@link #OBJECT} kind.
+     */
+    private final JavaType[] propertyTypes;
+
+    private JdbcBeanMapper(final ObjectMapper objectMapper, final MethodHandle constructor,
+                           final MethodHandle[] setters, final int[] kinds, final JavaType[] propertyTypes) {
+        this.objectMapper = objectMapper;
+        this.constructor = constructor;
+        this.setters = setters;
+        this.kinds = kinds;
+        this.propertyTypes = propertyTypes;
+    }
+
+    /**
+     * Resolves the bindings between columns and bean properties.
+     *
+     * @param objectMapper       the {@code ObjectMapper} whose configuration and annotation introspection is used
+     * @param beanType           the bean type
+     * @param columnMapping      keys of each column, matched against bean property names
+     * @param typedPrimitives    whether primitive properties can be filled with typed {@code ResultSet} getters
+     * @return the bean mapper, or null if the bean type cannot be mapped directly and should be mapped with
+     * {@code ObjectMapper#convertValue(Object, Class)}
+     */
+    static JdbcBeanMapper create(final ObjectMapper objectMapper, final Class<?> beanType, final String[] columnMapping,
+                                 final boolean typedPrimitives) {
+        try {
+            if (beanType.isInterface() || Modifier.isAbstract(beanType.getModifiers())) {
+                return null;
+            }
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final Constructor<?> ctor = beanType.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            final MethodHandle constructor = lookup.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+
+            final DeserializationConfig config = objectMapper.getDeserializationConfig();
+            final BeanDescription beanDesc = config.introspect(config.constructType(beanType));
+            if (beanDesc.findPOJOBuilder() != null || beanDesc.findAnySetterAccessor() != null) {
+                return null;
+            }
+            final AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+            if (introspector != null) {
+                for (final AnnotatedConstructor c : beanDesc.getConstructors()) {
+                    if (introspector.findCreatorAnnotation(config, c) != null) {
+                        return null;
+                    }
+                }
+                for (final AnnotatedMethod m : beanDesc.getFactoryMethods()) {
+                    if (introspector.findCreatorAnnotation(config, m) != null) {
+                        return null;
+                    }
+                }
+            }
+            final JsonIgnoreProperties.Value ignorals =
+                    config.getDefaultPropertyIgnorals(beanType, beanDesc.getClassInfo());
+            final Set<String> ignoredNames = ignorals.findIgnoredForDeserialization();
+            final boolean ignoreUnknown = ignorals.getIgnoreUnknown() ||
+                    !config.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+            final boolean caseInsensitive = config.isEnabled(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+
+            final MethodHandle[] setters = new MethodHandle[columnMapping.length];
+            final int[] kinds = new int[columnMapping.length];
+            final JavaType[] propertyTypes = new JavaType[columnMapping.length];
+            for (int i = 0; i < columnMapping.length; ++i) {
+                final BeanPropertyDefinition prop = findProperty(beanDesc, columnMapping[i], caseInsensitive);
+                if (prop == null) {
+                    if (ignoreUnknown || ignoredNames.contains(columnMapping[i])) {
+                        continue;
+                    }
+                    return null;
+                }
+                final AnnotatedMember mutator = prop.getSetter() != null ? prop.getSetter() : prop.getField();
+                if (mutator == null || (introspector != null && hasPropertyAnnotations(introspector, mutator))) {
+                    return null;
+                }
+
+                final MethodHandle setter;
+                final Class<?> rawType;
+                if (mutator.getMember() instanceof Method) {
+                    final Method method = (Method) mutator.getMember();
+                    method.setAccessible(true);
+                    setter = lookup.unreflect(method);
+                    rawType = method.getParameterTypes()[0];
+                } else {
+                    final Field field = (Field) mutator.getMember();
+                    if (Modifier.isFinal(field.getModifiers())) {
+                        return null;
+                    }
+                    field.setAccessible(true);
+                    setter = lookup.unreflectSetter(field);
+                    rawType = field.getType();
+                }
+
+                final int kind = typedPrimitives ? getKind(rawType) : OBJECT;
+                kinds[i] = kind;
+                propertyTypes[i] = prop.getPrimaryType();
+                setters[i] = setter.asType(kind == OBJECT ? OBJECT_SETTER_TYPE :
+                        MethodType.methodType(void.class, Object.class, rawType));
+            }
+            return new JdbcBeanMapper(objectMapper, constructor, setters, kinds, propertyTypes);
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            SupportLogger.LOGGER.tracef(e, "Cannot compile bean mapping for %s, and will use ObjectMapper", beanType);
+            return null;
+        }
+    }
+
+    /**
+     * Maps the current row of {@code resultSet} to a new bean instance.
+     *
+     * @param resultSet the {@code ResultSet} positioned at the row to map
+     * @param reader    the reader to get column values of {@link #OBJECT} kind
+     * @return the bean instance
+     * @throws Throwable if failed to map the row
+     */
+    Object map(final ResultSet resultSet, final JdbcItemReader reader) throws Throwable {
+        final Object bean = (Object) constructor.invokeExact();
+        for (int i = 0; i < setters.length; ++i) {
+            final MethodHandle setter = setters[i];
+            if (setter == null) {
+                continue;
+            }
+            final int pos = i + 1;
+            switch (kinds[i]) {
+                case INT:
+                    final int intValue = resultSet.getInt(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, intValue);
+                    }
+                    break;
+                case LONG:
+                    final long longValue = resultSet.getLong(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, longValue);
+                    }
+                    break;
+                case DOUBLE:
+                    final double doubleValue = resultSet.getDouble(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, doubleValue);
+                    }
+                    break;
+                case FLOAT:
+                    final float floatValue = resultSet.getFloat(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, floatValue);
+                    }
+                    break;
+                case SHORT:
+                    final short shortValue = resultSet.getShort(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, shortValue);
+                    }
+                    break;
+                case BYTE:
+                    final byte byteValue = resultSet.getByte(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, byteValue);
+                    }
+                    break;
+                case BOOLEAN:
+                    final boolean booleanValue = resultSet.getBoolean(pos);
+                    if (!resultSet.wasNull()) {
+                        setter.invokeExact(bean, booleanValue);
+                    }
+                    break;
+                default:
+                    Object value = reader.getColumnValue(i);
+                    final JavaType propertyType = propertyTypes[i];
+                    if (value == null) {
+                        // as in ObjectMapper, null is not set to primitive properties
+                        if (propertyType.isPrimitive()) {
+                            break;
+                        }
+                    } else if (!propertyType.getRawClass().isInstance(value) || propertyType.isContainerType()) {
+                        value = objectMapper.convertValue(value, propertyType);
+                    }
+                    setter.invokeExact(bean, value);
+                    break;
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Checks if the property is annotated to customize its deserialization in the context of the bean, which is not
+     * applied when converting a column value to the property type.
+     */
+    private static boolean hasPropertyAnnotations(final AnnotationIntrospector introspector,
+                                                  final AnnotatedMember member) {
+        final JsonFormat.Value format = introspector.findFormat(member);
+        return (format != null && !format.equals(JsonFormat.Value.empty())) ||
+                introspector.findDeserializer(member) != null ||
+                introspector.findContentDeserializer(member) != null ||
+                introspector.findKeyDeserializer(member) != null ||
+                introspector.findDeserializationConverter(member) != null ||
+                introspector.findDeserializationContentConverter(member) != null;
+    }
+
+    private static BeanPropertyDefinition findProperty(final BeanDescription beanDesc, final String name,
+                                                       final boolean caseInsensitive) {
+        for (final BeanPropertyDefinition prop : beanDesc.findProperties()) {
+            if (caseInsensitive ? prop.getName().equalsIgnoreCase(name) : prop.getName().equals(name)) {
+                return prop;
+            }
+        }
+        return null;
+    }
+
+    private static int getKind(final Class<?> type) {
+        if (type == int.class) {
+            return INT;
+        }
+        if (type == long.class) {
+            return LONG;
+        }
+        if (type == double.class) {
+            return DOUBLE;
+        }
+        if (type == float.class) {
+            return FLOAT;
+        }
+        if (type == short.class) {
+            return SHORT;
+        }
+        if (type == byte.class) {
+            return BYTE;
+        }
+        if (type == boolean.class) {
+            return BOOLEAN;
+        }
+        return OBJECT;
+    }
+}
@@ -88,6 +88,40 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected String[] columnTypes;
 
+    /**
+     * Values of the parameters in {@link #sql}, in the same order as parameter markers in {@link #sql}. Optional
+     * property, and defaults to null. For example, with the following {@link #sql}:
+     * <p>
+     * SELECT NAME, ADDRESS, AGE FROM PERSON WHERE AGE &gt;= ? AND AGE &lt; ?
+     * <p>
+     * this property can be configured as follows in job xml:
+     * <p>
+     * "20, 30"
+     * <p>
+     * A typical use is to read a different key range of the same table in each partition of a partitioned step, with
+     * the key range generated by {@link JdbcKeyRangePartitionMapper}.
+     *
+     * @see #parameterTypes
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String[] parameterValues;
+
+    /**
+     * Tells this class which {@code PreparedStatement} setter method to call to set the {@link #parameterValues}.
+     * It should have the same length and order as {@link #parameterValues}. Optional property, and if not set,
+     * this class calls {@link java.sql.PreparedStatement#setObject(int, Object)} for all parameters. Valid values
+     * are the same as {@link JdbcItemWriter#parameterTypes}. Values for {@code Date}, {@code Timestamp} and
+     * {@code Time} types are specified as milliseconds since the epoch.
+     *
+     * @see #parameterValues
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String[] parameterTypes;
+
     /**
      * The following {@code resultSetProperties} can be optionally configured in job xml:
      * <p>
@@ -142,6 +176,62 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Boolean autoCommit;
 
+    /**
+     * Column labels of the unique, non-null key that orders the rows of {@link #sql}. Optional property, and defaults
+     * to null. When specified, this reader pages through the query result in key order (keyset pagination), instead of
+     * reading the whole result with a single query and positioning with {@code java.sql.ResultSet#absolute(int)}.
+     * Each page is queried with a forward-only cursor as:
+     * <p>
+     * SELECT * FROM ({@link #sql}) KEYSET_T WHERE &lt;key greater than the last key read&gt; ORDER BY &lt;keyColumns&gt;
+     * <p>
+     * and limited to {@link #pageSize} rows with {@code java.sql.Statement#setMaxRows(int)}. The checkpoint of this
+     * reader is a {@link KeysetCheckpoint} containing the key of the last row read, so that upon restart, this reader
+     * queries the rows after that key directly. So memory usage is bounded by {@link #pageSize}, and the cost of
+     * restart does not grow with the number of rows already read.
+     * <p>
+     * For example, "ID", or "LAST_NAME, FIRST_NAME" for a composite key. This property is not supported with stored
+     * procedures, and {@code resultSetType}, {@code resultSetConcurrency} and {@code fetchDirection} in
+     * {@link #resultSetProperties} are ignored when it is specified.
+     *
+     * @see #pageSize
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String[] keyColumns;
+
+    /**
+     * Maximum number of rows to query for each page, when {@link #keyColumns} is specified. Optional property, and
+     * defaults to 1000.
+     *
+     * @see #keyColumns
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int pageSize;
+
+    /**
+     * Whether to map each row to {@link #beanType} with bindings between columns and bean properties resolved once
+     * when this reader is opened, instead of converting a {@code java.util.Map} of column values to {@link #beanType}
+     * with {@code ObjectMapper#convertValue(Object, Class)} for every row. Optional property, and defaults to false.
+     * <p>
+     * Bean properties are matched to {@link #columnMapping} with Jackson bean introspection as in the default
+     * mapping, and are set through {@code java.lang.invoke.MethodHandle}. When {@link #columnTypes} is not specified,
+     * primitive bean properties are read with the corresponding {@code ResultSet} getters without boxing. A column
+     * value whose type does not match the bean property is still converted with {@code ObjectMapper}. This property
+     * is ignored, and the default mapping is used, when {@link #beanType} is {@code java.util.List} or
+     * {@code java.util.Map}, when {@link #customDeserializers} is specified, or when {@link #beanType} cannot be
+     * mapped directly, e.g., it has no no-arg constructor, is deserialized with a builder or creator, or has
+     * properties annotated to customize their deserialization, e.g., with {@code @JsonFormat} or
+     * {@code @JsonDeserialize}.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean compiledBeanMapping;
+
     protected String[] columnLabels;
 
     protected Connection connection;
@@ -150,8 +240,40 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
 
     protected int currentRowNumber;
 
+    /**
+     * Key values of the last row read in keyset pagination mode.
+     */
+    private Object[] lastKeyValues;
+
+    /**
+     * Positions of {@link #keyColumns} in the {@link #resultSet}.
+     */
+    private int[] keyIndexes;
+
+    /**
+     * Whether {@link #preparedStatement} has been prepared to query rows after {@link #lastKeyValues}, and can be
+     * executed again for subsequent pages.
+     */
+    private boolean nextPagePrepared;
+
+    /**
+     * Number of rows read from the current page.
+     */
+    private int pageRowCount;
+
+    /**
+     * The fetch size configured in {@link #resultSetProperties}.
+     */
+    private int fetchSize;
+
+    /**
+     * Maps rows to {@link #beanType} when {@link #compiledBeanMapping} is enabled.
+     */
+    private JdbcBeanMapper beanMapper;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         init();
         connection = getConnection();
         if (autoCommit != null) {
@@ -159,20 +281,34 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
         }
 
         final int[] rsProps = parseResultSetProperties();
-        if (isStoredProcedure()) {
+        if (keyColumns != null) {
+            if (isStoredProcedure()) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(keyColumns), "keyColumns");
+            }
+            if (pageSize <= 0) {
+                pageSize = 1000;
+            }
+            fetchSize = rsProps[4];
+            if (checkpoint instanceof KeysetCheckpoint) {
+                lastKeyValues = ((KeysetCheckpoint) checkpoint).getKeyValues();
+            }
+            fetchPage(lastKeyValues != null);
+        } else if (isStoredProcedure()) {
             preparedStatement = connection.prepareCall(sql, rsProps[0], rsProps[1], rsProps[2]);
             preparedStatement.setFetchDirection(rsProps[3]);
             preparedStatement.setFetchSize(rsProps[4]);
+            setParameterValues();
             resultSet = executeStoredProcedure();
         } else {
             preparedStatement = connection.prepareStatement(sql, rsProps[0], rsProps[1], rsProps[2]);
             preparedStatement.setFetchDirection(rsProps[3]);
             preparedStatement.setFetchSize(rsProps[4]);
+            setParameterValues();
             resultSet = preparedStatement.executeQuery();
         }
 
+        final ResultSetMetaData metaData = resultSet.getMetaData();
         if (columnMapping == null) {
-            final ResultSetMetaData metaData = resultSet.getMetaData();
             final int columnCount = metaData.getColumnCount();
 
             if (columnTypes != null && columnTypes.length != columnCount) {
@@ -185,6 +321,12 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
             }
             columnMapping = columnLabels;
         }
+        if (keyColumns != null) {
+            keyIndexes = getKeyIndexes(metaData);
+        }
+        if (compiledBeanMapping && beanType != List.class && beanType != Map.class && customDeserializers == null) {
+            beanMapper = JdbcBeanMapper.create(objectMapper, beanType, columnMapping, columnTypes == null);
+        }
 
         if (start <= 0) {
             start = 1;
@@ -198,12 +340,24 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
 
         //readyPosition is the position before the first item to be read
         int readyPosition = start - 1;
-        if (checkpoint != null) {
+        if (checkpoint instanceof KeysetCheckpoint) {
+            readyPosition = ((KeysetCheckpoint) checkpoint).getRowNumber();
+        } else if (checkpoint != null) {
             final int checkpointPosition = (Integer) checkpoint;
             if (checkpointPosition > readyPosition) {
                 readyPosition = checkpointPosition;
             }
         }
+        if (keyColumns != null) {
+            if (lastKeyValues == null) {
+                while (currentRowNumber < readyPosition && nextKeysetRow()) {
+                    currentRowNumber++;
+                }
+            } else {
+                currentRowNumber = readyPosition;
+            }
+            return;
+        }
         if (readyPosition >= 0) {
             resultSet.absolute(readyPosition);
         }
@@ -213,16 +367,13 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
     @Override
     public void close() throws Exception {
         if (preparedStatement != null || connection != null || resultSet != null) {
-            try {
-                resultSet.close();
-            } catch (final SQLException e) {
-                SupportLogger.LOGGER.tracef(e, "Failed to close ResultSet");
-            }
+            closeResultSet();
             JdbcItemReaderWriterBase.close(connection, preparedStatement);
             connection = null;
             preparedStatement = null;
             resultSet = null;
         }
+        closeMetrics();
     }
 
     @Override
@@ -230,43 +381,32 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
         if (currentRowNumber >= end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         Object result = null;
-        if (resultSet.next()) {
-            if (beanType == List.class) {
-                final List<Object> resultList = new ArrayList<Object>();
-                for (int i = 0; i < columnMapping.length; ++i) {
-                    resultList.add(getColumnValue(i));
-                }
-                result = resultList;
-            } else {
-                final Map<String, Object> resultMap = new HashMap<String, Object>();
-                for (int i = 0; i < columnMapping.length; ++i) {
-                    resultMap.put(columnMapping[i], getColumnValue(i));
-                }
-
-                if (beanType == Map.class) {
-                    result = resultMap;
-                } else {
-                    final Object readValue = objectMapper.convertValue(resultMap, beanType);
-                    if (!skipBeanValidation) {
-                        ItemReaderWriterBase.validate(readValue);
-                    }
-                    result = readValue;
-                }
+        if (keyColumns != null) {
+            if (nextKeysetRow()) {
+                result = mapRow();
+                currentRowNumber++;
             }
+        } else if (resultSet.next()) {
+            result = mapRow();
             currentRowNumber = resultSet.getRow();
         }
-        return result;
+        return itemRead(startTime, result);
     }
 
     /**
-     * Gets the current row number in the {@code ResultSet} as the checkpoint info.
+     * Gets the current row number in the {@code ResultSet} as the checkpoint info. If {@link #keyColumns} is
+     * specified, the checkpoint info is a {@link KeysetCheckpoint} that also contains the key of the last row read.
      *
-     * @return the current row number in the {@code ResultSet}
+     * @return the current row number in the {@code ResultSet}, or {@link KeysetCheckpoint}
      * @throws Exception any exception raised
      */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (lastKeyValues != null) {
+            return new KeysetCheckpoint(currentRowNumber, lastKeyValues.clone());
+        }
         return currentRowNumber;
     }
 
@@ -356,7 +496,170 @@ public class JdbcItemReader extends JdbcItemReaderWriterBase implements ItemRead
         return rs;
     }
 
-    private Object getColumnValue(final int i) throws Exception {
+    private Object mapRow() throws Exception {
+        if (beanMapper != null) {
+            final Object readValue;
+            try {
+                readValue = beanMapper.map(resultSet, this);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            if (!skipBeanValidation) {
+                ItemReaderWriterBase.validate(readValue);
+            }
+            return readValue;
+        }
+        if (beanType == List.class) {
+            final List<Object> resultList = new ArrayList<Object>();
+            for (int i = 0; i < columnMapping.length; ++i) {
+                resultList.add(getColumnValue(i));
+            }
+            return resultList;
+        }
+        final Map<String, Object> resultMap = new HashMap<String, Object>();
+        for (int i = 0; i < columnMapping.length; ++i) {
+            resultMap.put(columnMapping[i], getColumnValue(i));
+        }
+        if (beanType == Map.class) {
+            return resultMap;
+        }
+        final Object readValue = objectMapper.convertValue(resultMap, beanType);
+        if (!skipBeanValidation) {
+            ItemReaderWriterBase.validate(readValue);
+        }
+        return readValue;
+    }
+
+    /**
+     * Builds the sql statement to query a page in keyset pagination mode. For composite key (k1, k2), the condition
+     * to query rows after the last key is expanded as {@code (k1 > ?) OR (k1 = ? AND k2 > ?)}, which is supported by
+     * all databases, unlike row value comparison.
+     *
+     * @param afterKey whether to query rows after the last key read, or from the first row
+     * @return the sql statement for the page
+     */
+    private String buildPageSql(final boolean afterKey) {
+        final StringBuilder sb = new StringBuilder("SELECT * FROM (").append(sql).append(") KEYSET_T");
+        if (afterKey) {
+            sb.append(" WHERE ");
+            for (int i = 0; i < keyColumns.length; ++i) {
+                if (i > 0) {
+                    sb.append(" OR ");
+                }
+                sb.append('(');
+                for (int j = 0; j < i; ++j) {
+                    sb.append(keyColumns[j]).append(" = ? AND ");
+                }
+                sb.append(keyColumns[i]).append(" > ?)");
+            }
+        }
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; ++i) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(keyColumns[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Queries the next page in keyset pagination mode with a forward-only cursor.
+     *
+     * @param afterKey whether to query rows after the last key read, or from the first row
+     * @throws Exception if failed to query the page
+     */
+    private void fetchPage(final boolean afterKey) throws Exception {
+        closeResultSet();
+        if (!afterKey || !nextPagePrepared) {
+            if (preparedStatement != null) {
+                preparedStatement.close();
+            }
+            preparedStatement = connection.prepareStatement(buildPageSql(afterKey),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            preparedStatement.setFetchSize(fetchSize > 0 ? Math.min(fetchSize, pageSize) : pageSize);
+            preparedStatement.setMaxRows(pageSize);
+            nextPagePrepared = afterKey;
+        }
+        setParameterValues();
+        if (afterKey) {
+            int pos = parameterValues == null ? 1 : parameterValues.length + 1;
+            for (int i = 0; i < keyColumns.length; ++i) {
+                for (int j = 0; j <= i; ++j) {
+                    preparedStatement.setObject(pos++, lastKeyValues[j]);
+                }
+            }
+        }
+        resultSet = preparedStatement.executeQuery();
+        pageRowCount = 0;
+    }
+
+    /**
+     * Moves to the next row in keyset pagination mode, querying the next page if the current page is exhausted, and
+     * saves the key values of the row.
+     *
+     * @return true if the next row is available; false if there are no more rows
+     * @throws Exception if failed to read the next row
+     */
+    private boolean nextKeysetRow() throws Exception {
+        while (!resultSet.next()) {
+            if (pageRowCount < pageSize) {
+                return false;
+            }
+            fetchPage(true);
+        }
+        pageRowCount++;
+        if (lastKeyValues == null) {
+            lastKeyValues = new Object[keyColumns.length];
+        }
+        for (int i = 0; i < keyIndexes.length; ++i) {
+            lastKeyValues[i] = resultSet.getObject(keyIndexes[i]);
+        }
+        return true;
+    }
+
+    private int[] getKeyIndexes(final ResultSetMetaData metaData) throws SQLException {
+        final int[] indexes = new int[keyColumns.length];
+        final int columnCount = metaData.getColumnCount();
+        for (int i = 0; i < keyColumns.length; ++i) {
+            for (int j = 1; j <= columnCount; ++j) {
+                if (keyColumns[i].equalsIgnoreCase(metaData.getColumnLabel(j))) {
+                    indexes[i] = j;
+                    break;
+                }
+            }
+            if (indexes[i] == 0) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, Arrays.toString(keyColumns), "keyColumns");
+            }
+        }
+        return indexes;
+    }
+
+    private void closeResultSet() {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (final SQLException e) {
+                SupportLogger.LOGGER.tracef(e, "Failed to close ResultSet");
+            }
+        }
+    }
+
+    private void setParameterValues() throws Exception {
+        if (parameterValues != null) {
+            if (parameterTypes != null && parameterTypes.length != parameterValues.length) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                        null, Arrays.toString(parameterTypes), "parameterTypes");
+            }
+            for (int i = 0; i < parameterValues.length; ++i) {
+                setParameter(preparedStatement, parameterTypes, i, parameterValues[i]);
+            }
+        }
+    }
+
+    Object getColumnValue(final int i) throws Exception {
         Object val = null;
         final int pos = i + 1;
         if (columnTypes == null) {
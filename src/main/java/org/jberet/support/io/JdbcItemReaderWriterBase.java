@@ -10,11 +10,26 @@
 
 package org.jberet.support.io;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.NClob;
 import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.RowId;
 import java.sql.SQLException;
+import java.sql.SQLXML;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -24,6 +39,7 @@ import javax.naming.InitialContext;
 import javax.sql.DataSource;
 
 import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
 
 /**
  * The base class for {@link JdbcItemReader} and {@link JdbcItemWriter}.
@@ -140,4 +156,207 @@ public abstract class JdbcItemReaderWriterBase extends JsonItemReaderWriterBase
             }
         }
     }
+
+    /**
+     * Sets the value of a parameter in {@code preparedStatement}, calling the setter method specified in
+     * {@code parameterTypes}.
+     *
+     * @param preparedStatement the {@code PreparedStatement} whose parameter is to be set
+     * @param parameterTypes    {@code PreparedStatement} setter types for all parameters, may be null
+     * @param i                 the index of the parameter, starting from 0
+     * @param val               the parameter value
+     * @throws Exception if failed to set the parameter
+     * @since 2.0.0
+     */
+    protected static void setParameter(final PreparedStatement preparedStatement, final String[] parameterTypes,
+                                       final int i, final Object val) throws Exception {
+        final int pos = i + 1;
+        if (parameterTypes == null) {
+            preparedStatement.setObject(i + 1, val);
+            return;
+        }
+        final String type = parameterTypes[i];
+        if (type.equals("String")) {
+            preparedStatement.setString(pos, val == null ? null : val.toString());
+        } else if (type.equals("Date")) {
+            if (val == null) {
+                preparedStatement.setDate(pos, null);
+            } else {
+                final java.sql.Date sqlDate;
+                if (val instanceof java.sql.Date) {
+                    sqlDate = (java.sql.Date) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlDate = new java.sql.Date((Long) val);
+                } else {
+                    sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
+                }
+                preparedStatement.setDate(pos, sqlDate);
+            }
+        } else if (type.equals("Timestamp")) {
+            if (val == null) {
+                preparedStatement.setTimestamp(pos, null);
+            } else {
+                final Timestamp sqlTimestamp;
+                if (val instanceof Timestamp) {
+                    sqlTimestamp = (Timestamp) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlTimestamp = new Timestamp((Long) val);
+                } else {
+                    sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
+                }
+                preparedStatement.setTimestamp(pos, sqlTimestamp);
+            }
+        } else if (type.equals("Time")) {
+            if (val == null) {
+                preparedStatement.setTime(pos, null);
+            } else {
+                final Time sqlTime;
+                if (val instanceof Time) {
+                    sqlTime = (Time) val;
+                } else if (val instanceof java.util.Date) {
+                    sqlTime = new Time(((java.util.Date) val).getTime());
+                } else if (val instanceof Long) {
+                    sqlTime = new Time((Long) val);
+                } else {
+                    sqlTime = new Time(Long.parseLong(val.toString()));
+                }
+                preparedStatement.setTime(pos, sqlTime);
+            }
+        } else if (type.equals("Object") || type.equals("null")) {
+            preparedStatement.setObject(pos, val);
+        } else if (type.equals("NString")) {
+            preparedStatement.setNString(pos, val == null ? null : val.toString());
+        } else if (type.equals("Boolean")) {
+            preparedStatement.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
+                    val != null && Boolean.parseBoolean(val.toString())));
+        } else if (type.equals("Int")) {
+            preparedStatement.setInt(pos, (val instanceof Integer ? (Integer) val :
+                    val == null ? 0 : Integer.parseInt(val.toString())));
+        } else if (type.equals("Long")) {
+            preparedStatement.setLong(pos, (val instanceof Long ? (Long) val :
+                    val == null ? 0 : Long.parseLong(val.toString())));
+        } else if (type.equals("Double")) {
+            preparedStatement.setDouble(pos, (val instanceof Double ? (Double) val :
+                    val == null ? 0 : Double.parseDouble(val.toString())));
+        } else if (type.equals("Float")) {
+            preparedStatement.setFloat(pos, (val instanceof Float ? (Float) val :
+                    val == null ? 0 : Float.parseFloat(val.toString())));
+        } else if (type.equals("Short")) {
+            preparedStatement.setShort(pos, (val instanceof Short ? (Short) val :
+                    val == null ? 0 : Short.parseShort(val.toString())));
+        } else if (type.equals("Byte")) {
+            preparedStatement.setByte(pos, (val instanceof Byte ? (Byte) val :
+                    val == null ? 0 : Byte.parseByte(val.toString())));
+        } else if (type.equals("Blob")) {
+            if (val == null) {
+                preparedStatement.setBlob(pos, (Blob) null);
+            } else if (val instanceof Blob) {
+                preparedStatement.setBlob(pos, (Blob) val);
+            } else if (val instanceof InputStream) {
+                preparedStatement.setBlob(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
+            }
+        } else if (type.equals("Clob")) {
+            if (val == null) {
+                preparedStatement.setClob(pos, (Clob) null);
+            } else if (val instanceof Clob) {
+                preparedStatement.setClob(pos, (Clob) val);
+            } else if (val instanceof Reader) {
+                preparedStatement.setClob(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
+            }
+        } else if (type.equals("NClob")) {
+            if (val == null) {
+                preparedStatement.setNClob(pos, (NClob) null);
+            } else if (val instanceof NClob) {
+                preparedStatement.setNClob(pos, (NClob) val);
+            } else if (val instanceof Reader) {
+                preparedStatement.setNClob(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
+            }
+        } else if (type.equals("BigDecimal")) {
+            preparedStatement.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
+                    val == null ? null : new BigDecimal(val.toString())));
+        } else if (type.equals("URL")) {
+            preparedStatement.setURL(pos, (val instanceof URL ? (URL) val :
+                    val == null ? null : (new URI(val.toString())).toURL()));
+        } else if (type.equals("Bytes")) {
+            preparedStatement.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
+                    val == null ? null : val.toString().getBytes()));
+        } else if (type.equals("BinaryStream")) {
+            if (val == null) {
+                preparedStatement.setBinaryStream(pos, null);
+            } else if (val instanceof InputStream) {
+                preparedStatement.setBinaryStream(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+            }
+        } else if (type.equals("CharacterStream")) {
+            if (val == null) {
+                preparedStatement.setCharacterStream(pos, null);
+            } else if (val instanceof Reader) {
+                preparedStatement.setCharacterStream(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+            }
+        } else if (type.equals("NCharacterStream")) {
+            if (val == null) {
+                preparedStatement.setNCharacterStream(pos, null);
+            } else if (val instanceof Reader) {
+                preparedStatement.setNCharacterStream(pos, (Reader) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
+            }
+        } else if (type.equals("AsciiStream")) {
+            if (val == null) {
+                preparedStatement.setAsciiStream(pos, null);
+            } else if (val instanceof InputStream) {
+                preparedStatement.setAsciiStream(pos, (InputStream) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
+            }
+        } else if (type.equals("Ref")) {
+            if (val == null) {
+                preparedStatement.setRef(pos, null);
+            } else if (val instanceof Ref) {
+                preparedStatement.setRef(pos, (Ref) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
+            }
+        } else if (type.equals("RowId")) {
+            if (val == null) {
+                preparedStatement.setRowId(pos, null);
+            } else if (val instanceof RowId) {
+                preparedStatement.setRowId(pos, (RowId) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
+            }
+        } else if (type.equals("SQLXML")) {
+            if (val == null) {
+                preparedStatement.setSQLXML(pos, null);
+            } else if (val instanceof SQLXML) {
+                preparedStatement.setSQLXML(pos, (SQLXML) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
+            }
+        } else if (type.equals("Array")) {
+            if (val == null) {
+                preparedStatement.setArray(pos, null);
+            } else if (val instanceof Array) {
+                preparedStatement.setArray(pos, (Array) val);
+            } else {
+                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
+            }
+        } else {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                    null, Arrays.toString(parameterTypes), "parameterTypes");
+        }
+    }
 }
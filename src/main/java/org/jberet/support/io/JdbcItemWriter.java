@@ -10,26 +10,14 @@
 
 package org.jberet.support.io;
 
-import java.io.InputStream;
-import java.io.Reader;
 import java.io.Serializable;
-import java.math.BigDecimal;
-import java.net.URI;
-import java.net.URL;
-import java.sql.Array;
 import java.sql.BatchUpdateException;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.Connection;
-import java.sql.NClob;
-import java.sql.Ref;
-import java.sql.RowId;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.SQLXML;
-import java.sql.Time;
-import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import javax.batch.api.BatchProperty;
@@ -96,15 +84,52 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
     @BatchProperty
     protected String[] parameterTypes;
 
+    /**
+     * Whether to keep the JDBC connection and {@code PreparedStatement} open across chunks, from {@link #open} to
+     * {@link #close}. Optional property, and defaults to {@code false}, i.e., a new connection is obtained and
+     * {@link #sql} is prepared for each chunk. Setting it to {@code true} avoids parsing {@link #sql} and acquiring
+     * a connection (or creating a new physical connection for {@link #url}-based configuration) for every chunk.
+     * <p>
+     * For {@link #url}-based configuration, the connection is in manual commit mode, and is committed at the end of each
+     * chunk. For {@link #dataSourceLookup}-based configuration, the connection participates in the chunk transaction
+     * managed by the batch runtime, so the {@code DataSource} must support using a connection handle across
+     * transactions (e.g., a container-managed {@code DataSource} with lazy enlistment).
+     * Otherwise, leave this property as {@code false}.
+     * <p>
+     * Prepared statements are cached by sql for the connection. If a chunk fails, the connection and cached statements
+     * are closed, and a new connection is obtained for the next chunk.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean reuseConnection;
+
+    /**
+     * The connection kept open across chunks when {@link #reuseConnection} is true.
+     */
+    private Connection reusableConnection;
+
+    /**
+     * Prepared statements for {@link #reusableConnection}, keyed by sql.
+     */
+    private final Map<String, PreparedStatement> statementCache = new HashMap<String, PreparedStatement>();
+
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         Connection connection = null;
         try {
-            connection = getConnection();
-            if (dataSource == null) {
-                connection.setAutoCommit(false);
+            if (reuseConnection) {
+                connection = getReusableConnection();
+                preparedStatement = prepareStatement(sql);
+            } else {
+                connection = getConnection();
+                if (dataSource == null) {
+                    connection.setAutoCommit(false);
+                }
+                preparedStatement = connection.prepareStatement(sql);
             }
-            preparedStatement = connection.prepareStatement(sql);
             for (final Object item : items) {
                 mapParameters(item);
                 preparedStatement.addBatch();
@@ -113,10 +138,14 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             if (dataSource == null) {
                 connection.commit();
             }
+            itemsWritten(startTime, items.size());
         } catch (Exception e) {
             if (dataSource == null && connection != null) {
                 connection.rollback();
             }
+            if (reuseConnection) {
+                closeReusableConnection();
+            }
             if(e instanceof SQLException) {
                 final SQLException sqlException = (SQLException) e;
                 final SQLException cause = sqlException.getNextException();
@@ -133,17 +162,62 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             }
             throw e;
         } finally {
-            JdbcItemReaderWriterBase.close(connection, preparedStatement);
+            if (!reuseConnection) {
+                JdbcItemReaderWriterBase.close(connection, preparedStatement);
+            }
         }
     }
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         init();
 
         if (parameterNames == null && beanType != java.util.List.class) {
             parameterNames = determineParameterNames(sql);
         }
+        if (reuseConnection) {
+            getReusableConnection();
+            prepareStatement(sql);
+        }
+    }
+
+    /**
+     * Gets a {@code PreparedStatement} for {@code sql} from the statement cache of the connection kept open across
+     * chunks, preparing it if not cached yet. Subclasses may call this method to prepare additional statements.
+     *
+     * @param sql the sql statement
+     * @return the cached {@code PreparedStatement}
+     * @throws Exception if failed to prepare the statement
+     * @since 2.0.0
+     */
+    protected PreparedStatement prepareStatement(final String sql) throws Exception {
+        PreparedStatement statement = statementCache.get(sql);
+        if (statement == null) {
+            statement = getReusableConnection().prepareStatement(sql);
+            statementCache.put(sql, statement);
+        }
+        return statement;
+    }
+
+    private Connection getReusableConnection() throws Exception {
+        if (reusableConnection == null) {
+            reusableConnection = getConnection();
+            if (dataSource == null) {
+                reusableConnection.setAutoCommit(false);
+            }
+        }
+        return reusableConnection;
+    }
+
+    private void closeReusableConnection() {
+        for (final PreparedStatement statement : statementCache.values()) {
+            JdbcItemReaderWriterBase.close(null, statement);
+        }
+        statementCache.clear();
+        JdbcItemReaderWriterBase.close(reusableConnection, null);
+        reusableConnection = null;
+        preparedStatement = null;
     }
 
     static String[] determineParameterNames(final String sql) {
@@ -179,7 +253,10 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
 
     @Override
     public void close() throws Exception {
-
+        if (reusableConnection != null) {
+            closeReusableConnection();
+        }
+        closeMetrics();
     }
 
     @Override
@@ -206,7 +283,7 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
             }
 
             for (int i = 0; i < parameterCount; ++i) {
-                setParameter(i, itemAsList.get(i));
+                setParameter(preparedStatement, parameterTypes, i, itemAsList.get(i));
             }
         } else {
             final Map itemAsMap;
@@ -216,199 +293,8 @@ public class JdbcItemWriter extends JdbcItemReaderWriterBase implements ItemWrit
                 itemAsMap = objectMapper.convertValue(item, Map.class);
             }
             for (int i = 0; i < parameterNames.length; ++i) {
-                setParameter(i, itemAsMap.get(parameterNames[i]));
-            }
-        }
-    }
-
-    private void setParameter(final int i, final Object val) throws Exception {
-        final int pos = i + 1;
-        if (parameterTypes == null) {
-            preparedStatement.setObject(i + 1, val);
-            return;
-        }
-        final String type = parameterTypes[i];
-        if (type.equals("String")) {
-            preparedStatement.setString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Date")) {
-            if (val == null) {
-                preparedStatement.setDate(pos, null);
-            } else {
-                final java.sql.Date sqlDate;
-                if (val instanceof java.sql.Date) {
-                    sqlDate = (java.sql.Date) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlDate = new java.sql.Date(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlDate = new java.sql.Date((Long) val);
-                } else {
-                    sqlDate = new java.sql.Date(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setDate(pos, sqlDate);
-            }
-        } else if (type.equals("Timestamp")) {
-            if (val == null) {
-                preparedStatement.setTimestamp(pos, null);
-            } else {
-                final Timestamp sqlTimestamp;
-                if (val instanceof Timestamp) {
-                    sqlTimestamp = (Timestamp) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTimestamp = new Timestamp(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTimestamp = new Timestamp((Long) val);
-                } else {
-                    sqlTimestamp = new Timestamp(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTimestamp(pos, sqlTimestamp);
-            }
-        } else if (type.equals("Time")) {
-            if (val == null) {
-                preparedStatement.setTime(pos, null);
-            } else {
-                final Time sqlTime;
-                if (val instanceof Time) {
-                    sqlTime = (Time) val;
-                } else if (val instanceof java.util.Date) {
-                    sqlTime = new Time(((java.util.Date) val).getTime());
-                } else if (val instanceof Long) {
-                    sqlTime = new Time((Long) val);
-                } else {
-                    sqlTime = new Time(Long.parseLong(val.toString()));
-                }
-                preparedStatement.setTime(pos, sqlTime);
-            }
-        } else if (type.equals("Object") || type.equals("null")) {
-            preparedStatement.setObject(pos, val);
-        } else if (type.equals("NString")) {
-            preparedStatement.setNString(pos, val == null ? null : val.toString());
-        } else if (type.equals("Boolean")) {
-            preparedStatement.setBoolean(pos, (val instanceof Boolean ? (Boolean) val :
-                    val != null && Boolean.parseBoolean(val.toString())));
-        } else if (type.equals("Int")) {
-            preparedStatement.setInt(pos, (val instanceof Integer ? (Integer) val :
-                    val == null ? 0 : Integer.parseInt(val.toString())));
-        } else if (type.equals("Long")) {
-            preparedStatement.setLong(pos, (val instanceof Long ? (Long) val :
-                    val == null ? 0 : Long.parseLong(val.toString())));
-        } else if (type.equals("Double")) {
-            preparedStatement.setDouble(pos, (val instanceof Double ? (Double) val :
-                    val == null ? 0 : Double.parseDouble(val.toString())));
-        } else if (type.equals("Float")) {
-            preparedStatement.setFloat(pos, (val instanceof Float ? (Float) val :
-                    val == null ? 0 : Float.parseFloat(val.toString())));
-        } else if (type.equals("Short")) {
-            preparedStatement.setShort(pos, (val instanceof Short ? (Short) val :
-                    val == null ? 0 : Short.parseShort(val.toString())));
-        } else if (type.equals("Byte")) {
-            preparedStatement.setByte(pos, (val instanceof Byte ? (Byte) val :
-                    val == null ? 0 : Byte.parseByte(val.toString())));
-        } else if (type.equals("Blob")) {
-            if (val == null) {
-                preparedStatement.setBlob(pos, (Blob) null);
-            } else if (val instanceof Blob) {
-                preparedStatement.setBlob(pos, (Blob) val);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBlob(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Blob | InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Clob")) {
-            if (val == null) {
-                preparedStatement.setClob(pos, (Clob) null);
-            } else if (val instanceof Clob) {
-                preparedStatement.setClob(pos, (Clob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Clob | Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NClob")) {
-            if (val == null) {
-                preparedStatement.setNClob(pos, (NClob) null);
-            } else if (val instanceof NClob) {
-                preparedStatement.setNClob(pos, (NClob) val);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNClob(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("NClob | Reader", val.getClass().getName(), val);
+                setParameter(preparedStatement, parameterTypes, i, itemAsMap.get(parameterNames[i]));
             }
-        } else if (type.equals("BigDecimal")) {
-            preparedStatement.setBigDecimal(pos, (val instanceof BigDecimal ? (BigDecimal) val :
-                    val == null ? null : new BigDecimal(val.toString())));
-        } else if (type.equals("URL")) {
-            preparedStatement.setURL(pos, (val instanceof URL ? (URL) val :
-                    val == null ? null : (new URI(val.toString())).toURL()));
-        } else if (type.equals("Bytes")) {
-            preparedStatement.setBytes(pos, (val instanceof byte[] ? (byte[]) val :
-                    val == null ? null : val.toString().getBytes()));
-        } else if (type.equals("BinaryStream")) {
-            if (val == null) {
-                preparedStatement.setBinaryStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setBinaryStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("CharacterStream")) {
-            if (val == null) {
-                preparedStatement.setCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("NCharacterStream")) {
-            if (val == null) {
-                preparedStatement.setNCharacterStream(pos, null);
-            } else if (val instanceof Reader) {
-                preparedStatement.setNCharacterStream(pos, (Reader) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("Reader", val.getClass().getName(), val);
-            }
-        } else if (type.equals("AsciiStream")) {
-            if (val == null) {
-                preparedStatement.setAsciiStream(pos, null);
-            } else if (val instanceof InputStream) {
-                preparedStatement.setAsciiStream(pos, (InputStream) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("InputStream", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Ref")) {
-            if (val == null) {
-                preparedStatement.setRef(pos, null);
-            } else if (val instanceof Ref) {
-                preparedStatement.setRef(pos, (Ref) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Ref", val.getClass().getName(), val);
-            }
-        } else if (type.equals("RowId")) {
-            if (val == null) {
-                preparedStatement.setRowId(pos, null);
-            } else if (val instanceof RowId) {
-                preparedStatement.setRowId(pos, (RowId) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.RowId", val.getClass().getName(), val);
-            }
-        } else if (type.equals("SQLXML")) {
-            if (val == null) {
-                preparedStatement.setSQLXML(pos, null);
-            } else if (val instanceof SQLXML) {
-                preparedStatement.setSQLXML(pos, (SQLXML) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.SQLXML", val.getClass().getName(), val);
-            }
-        } else if (type.equals("Array")) {
-            if (val == null) {
-                preparedStatement.setArray(pos, null);
-            } else if (val instanceof Array) {
-                preparedStatement.setArray(pos, (Array) val);
-            } else {
-                throw SupportMessages.MESSAGES.unexpectedDataType("java.sql.Array", val.getClass().getName(), val);
-            }
-        } else {
-            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
-                    null, Arrays.toString(parameterTypes), "parameterTypes");
         }
     }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Calendar;
+import java.util.Properties;
+import javax.batch.api.BatchProperty;
+import javax.batch.api.partition.PartitionMapper;
+import javax.batch.api.partition.PartitionPlan;
+import javax.batch.api.partition.PartitionPlanImpl;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.jberet.support._private.SupportMessages;
+
+/**
+ * An implementation of {@code javax.batch.api.partition.PartitionMapper} that divides the value range of a numeric or
+ * date key column into sub-ranges of equal size, one for each partition, so that each partition of a
+ * {@link JdbcItemReader} step can query a disjoint slice of the table from the database in parallel.
+ * <p>
+ * This mapper queries the minimum and maximum value of the key column, and makes the key range of each partition
+ * available as partition properties:
+ * <ul>
+ * <li>{@code keyStart}: the start of the key range (inclusive)
+ * <li>{@code keyEnd}: the end of the key range (exclusive)
+ * <li>{@code keyType}: the {@code PreparedStatement} setter type for the key values, one of {@code Long},
+ * {@code BigDecimal}, {@code Date} or {@code Timestamp}. Values for {@code Date} and {@code Timestamp} are
+ * milliseconds since the epoch.
+ * </ul>
+ * For {@code Date} keys, the driver truncates key range boundaries to the date, and the end of the last key range is
+ * the day after the maximum date, so that rows on the maximum date are included.
+ * They can be passed to {@link JdbcItemReader} as sql parameters, for example:
+ * <p>
+ * <pre>
+ * &lt;step id="step1"&gt;
+ *     &lt;chunk&gt;
+ *         &lt;reader ref="jdbcItemReader"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="sql" value="SELECT * FROM PERSON WHERE ID &gt;= ? AND ID &lt; ?"/&gt;
+ *                 &lt;property name="parameterValues" value="#{partitionPlan['keyStart']}, #{partitionPlan['keyEnd']}"/&gt;
+ *                 &lt;property name="parameterTypes" value="#{partitionPlan['keyType']}, #{partitionPlan['keyType']}"/&gt;
+ *                 ...
+ *             &lt;/properties&gt;
+ *         &lt;/reader&gt;
+ *         ...
+ *     &lt;/chunk&gt;
+ *     &lt;partition&gt;
+ *         &lt;mapper ref="jdbcKeyRangePartitionMapper"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="table" value="PERSON"/&gt;
+ *                 &lt;property name="keyColumn" value="ID"/&gt;
+ *                 &lt;property name="partitionCount" value="4"/&gt;
+ *                 ...
+ *             &lt;/properties&gt;
+ *         &lt;/mapper&gt;
+ *     &lt;/partition&gt;
+ * &lt;/step&gt;
+ * </pre>
+ * Database connection is configured with the same properties as {@link JdbcItemReader}. Rows with null key value are
+ * not included in any partition.
+ *
+ * @see JdbcItemReader#parameterValues
+ * @since 2.0.0
+ */
+@Named
+@Dependent
+public class JdbcKeyRangePartitionMapper extends JdbcItemReaderWriterBase implements PartitionMapper {
+    /**
+     * Partition property key for the start of the key range.
+     */
+    public static final String KEY_START_KEY = "keyStart";
+
+    /**
+     * Partition property key for the end of the key range.
+     */
+    public static final String KEY_END_KEY = "keyEnd";
+
+    /**
+     * Partition property key for the {@code PreparedStatement} setter type of the key values.
+     */
+    public static final String KEY_TYPE_KEY = "keyType";
+
+    /**
+     * The table to read. Required property, unless {@link #sql} is specified.
+     */
+    @Inject
+    @BatchProperty
+    protected String table;
+
+    /**
+     * The numeric or date key column to divide. Required property, unless {@link #sql} is specified.
+     */
+    @Inject
+    @BatchProperty
+    protected String keyColumn;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. The actual number
+     * of partitions may be less for integral keys with a small value range.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Maximum number of threads to run partitions concurrently. Optional property, and defaults to the number of
+     * partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (sql == null) {
+            if (table == null || keyColumn == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, keyColumn == null ? "keyColumn" : "table");
+            }
+            sql = "SELECT MIN(" + keyColumn + "), MAX(" + keyColumn + ") FROM " + table;
+        }
+        init();
+
+        final Object min;
+        final Object max;
+        Connection connection = null;
+        Statement statement = null;
+        try {
+            connection = getConnection();
+            statement = connection.createStatement();
+            final ResultSet resultSet = statement.executeQuery(sql);
+            resultSet.next();
+            min = resultSet.getObject(1);
+            max = resultSet.getObject(2);
+            resultSet.close();
+        } finally {
+            close(connection, statement);
+        }
+
+        int count = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+        final String keyType;
+        final BigDecimal low;
+        final BigDecimal high;
+        if (min == null || max == null) {
+            // no rows with non-null key, so use a single partition with empty key range
+            keyType = "Long";
+            low = high = BigDecimal.ZERO;
+            count = 1;
+        } else if (min instanceof java.sql.Date) {
+            keyType = "Date";
+            low = BigDecimal.valueOf(((java.util.Date) min).getTime());
+            high = BigDecimal.valueOf(nextDay((java.util.Date) max));
+        } else if (min instanceof java.util.Date) {
+            keyType = "Timestamp";
+            low = BigDecimal.valueOf(((java.util.Date) min).getTime());
+            high = BigDecimal.valueOf(((java.util.Date) max).getTime() + 1);
+        } else if (min instanceof Number) {
+            low = toBigDecimal((Number) min);
+            final BigDecimal maxDecimal = toBigDecimal((Number) max);
+            if (low.scale() <= 0 && maxDecimal.scale() <= 0) {
+                keyType = "Long";
+                high = maxDecimal.add(BigDecimal.ONE);
+            } else {
+                keyType = "BigDecimal";
+                high = maxDecimal.add(maxDecimal.ulp());
+            }
+        } else {
+            throw SupportMessages.MESSAGES.unexpectedDataType(
+                    "java.lang.Number | java.util.Date", min.getClass().getName(), min);
+        }
+
+        final boolean integral = !"BigDecimal".equals(keyType);
+        if (integral) {
+            count = (int) Math.max(Math.min(count, high.subtract(low).longValue()), 1);
+        }
+        final BigDecimal range = high.subtract(low);
+        final Properties[] partitionProperties = new Properties[count];
+        BigDecimal keyStart = low;
+        for (int i = 0; i < count; i++) {
+            BigDecimal keyEnd;
+            if (i == count - 1) {
+                keyEnd = high;
+            } else {
+                keyEnd = low.add(range.multiply(BigDecimal.valueOf(i + 1))
+                        .divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+                if (integral) {
+                    keyEnd = keyEnd.setScale(0, RoundingMode.FLOOR);
+                }
+            }
+            final Properties props = new Properties();
+            props.setProperty(KEY_START_KEY, keyStart.toPlainString());
+            props.setProperty(KEY_END_KEY, keyEnd.toPlainString());
+            props.setProperty(KEY_TYPE_KEY, keyType);
+            partitionProperties[i] = props;
+            keyStart = keyEnd;
+        }
+
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(count);
+        partitionPlan.setThreads(threads > 0 ? threads : count);
+        partitionPlan.setPartitionProperties(partitionProperties);
+        return partitionPlan;
+    }
+
+    /**
+     * Gets the start of the day after the date, since {@code java.sql.Date} values are truncated to the date when
+     * bound with {@code PreparedStatement#setDate}, and the end of a key range is exclusive.
+     */
+    private static long nextDay(final java.util.Date date) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTime(date);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        calendar.add(Calendar.DAY_OF_MONTH, 1);
+        return calendar.getTimeInMillis();
+    }
+
+    private static BigDecimal toBigDecimal(final Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return new BigDecimal(number.toString());
+        }
+        return BigDecimal.valueOf(number.longValue());
+    }
+}
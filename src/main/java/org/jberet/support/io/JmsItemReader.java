@@ -11,6 +11,7 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,11 +20,13 @@ import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.jms.BytesMessage;
 import javax.jms.JMSException;
 import javax.jms.MapMessage;
 import javax.jms.Message;
 import javax.jms.MessageConsumer;
 import javax.jms.ObjectMessage;
+import javax.jms.Session;
 import javax.jms.TextMessage;
 
 import org.jberet.support._private.SupportLogger;
@@ -42,7 +45,8 @@ import org.jberet.support._private.SupportMessages;
  * </ul>
  * <p>
  * If {@link #beanType} is set to {@code javax.jms.Message}, {@link #readItem()} returns the incoming JMS message as is.
- * Otherwise, {@link #readItem()} method determines the actual data type based on the message type.
+ * Otherwise, {@link #readItem()} method determines the actual data type based on the message type. If {@link #codec}
+ * is specified, the body of any incoming {@code BytesMessage} is decoded with the codec into {@link #beanType}.
  * <p>
  * This reader ends when any of the following occurs:
  * <ul>
@@ -50,6 +54,11 @@ import org.jberet.support._private.SupportMessages;
  * <li>any {@code null} body is retrieved from a message;
  * <li>any message is of type {@code Message}, but not one of its subtype.
  * </ul>
+ * <p>
+ * If the JMS session is created with {@code CLIENT_ACKNOWLEDGE} or {@code SESSION_TRANSACTED}
+ * {@link #sessionMode}, messages are acknowledged, or the session is committed, once per chunk in
+ * {@link #checkpointInfo()}, after the data items of the chunk have been written, for at-least-once delivery. To
+ * reduce broker round-trips, {@link #receiveBatchSize} can be set to receive multiple messages at a time.
  *
  * @see     JmsItemWriter
  * @see     JmsItemReaderWriterBase
@@ -81,19 +90,52 @@ public class JmsItemReader extends JmsItemReaderWriterBase implements ItemReader
      * <p>
      * <ul>
      * <li>{@code javax.jms.Message}: an incoming JMS message is returned as is.
+     * <li>any type supported by {@link #codec}, if {@link #codec} is specified: the body of an incoming
+     * {@code BytesMessage} is decoded into this type.
      * </ul>
      * <p>
      * When this property is not specified, {@link #readItem()} method returns an object whose actual type is
-     * determined by the incoming JMS message type.
+     * determined by the incoming JMS message type, and {@code BytesMessage} is decoded into {@code java.util.Map}.
      */
     @Inject
     @BatchProperty
     protected Class beanType;
 
+    /**
+     * Maximum number of messages to receive at a time. Optional property, and defaults to 0 (one message is received
+     * for each data item). If greater than 1, after a message is received within {@link #receiveTimeout}, up to
+     * {@code receiveBatchSize - 1} more messages that are immediately available are received with
+     * {@code javax.jms.MessageConsumer#receiveNoWait()} into a local buffer, and subsequent data items are read from
+     * the buffer.
+     * <p>
+     * If {@link #sessionMode} is not specified, it defaults to {@code CLIENT_ACKNOWLEDGE} when this property is
+     * greater than 1. Since acknowledging or committing a JMS session covers all messages received, the
+     * acknowledgement is deferred to the next checkpoint if the buffer still has messages not yet read. So this
+     * property should preferably be a divisor of the chunk item-count.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int receiveBatchSize;
+
     protected MessageConsumer consumer;
 
+    /**
+     * Messages received but not yet read, when {@link #receiveBatchSize} is greater than 1.
+     */
+    private final ArrayDeque<Message> receivedMessages = new ArrayDeque<Message>();
+
+    /**
+     * The last message received that is not yet acknowledged or committed.
+     */
+    private Message unacknowledgedMessage;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        if (receiveBatchSize > 1 && sessionMode == null) {
+            sessionMode = "CLIENT_ACKNOWLEDGE";
+        }
         super.open(checkpoint);
         consumer = session.createConsumer(destination, messageSelector);
         connection.start();
@@ -101,17 +143,26 @@ public class JmsItemReader extends JmsItemReaderWriterBase implements ItemReader
 
     @Override
     public Object readItem() throws Exception {
+        final long startTime = metricsStartTime();
         final Object result;
-        final Message message = consumer.receive(receiveTimeout);
+        final Message message = receive();
         if (message == null) {  //no more messages after receiveTimeout
             return null;
         }
 
         if (beanType == Message.class) {
-            return message;
+            return itemRead(startTime, message);
         }
 
-        if (message instanceof ObjectMessage) {
+        if (itemCodec != null && message instanceof BytesMessage) {
+            final BytesMessage bytesMessage = (BytesMessage) message;
+            final byte[] bytes = new byte[(int) bytesMessage.getBodyLength()];
+            bytesMessage.readBytes(bytes);
+            result = itemCodec.decode(bytes, 0, bytes.length, beanType == null ? Map.class : beanType);
+            if (!skipBeanValidation) {
+                ItemReaderWriterBase.validate(result);
+            }
+        } else if (message instanceof ObjectMessage) {
             final ObjectMessage objectMessage = (ObjectMessage) message;
             result = objectMessage.getObject();
             if (!skipBeanValidation) {
@@ -136,16 +187,34 @@ public class JmsItemReader extends JmsItemReaderWriterBase implements ItemReader
             throw SupportMessages.MESSAGES.unexpectedJmsMessageType("ObjectMessage | MapMessage | TextMessage", message.getJMSType(), message.toString());
         }
 
-        return result;
+        return itemRead(startTime, result);
     }
 
+    /**
+     * Acknowledges the messages received, or commits the session, if the session is created with
+     * {@code CLIENT_ACKNOWLEDGE} or {@code SESSION_TRANSACTED} {@link #sessionMode}, and all messages received have
+     * been read.
+     *
+     * @return null
+     * @throws Exception if failed to acknowledge or commit
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (unacknowledgedMessage != null && receivedMessages.isEmpty()) {
+            if (session.getTransacted()) {
+                session.commit();
+            } else if (session.getAcknowledgeMode() == Session.CLIENT_ACKNOWLEDGE) {
+                unacknowledgedMessage.acknowledge();
+            }
+            unacknowledgedMessage = null;
+        }
         return null;
     }
 
     @Override
     public void close() {
+        receivedMessages.clear();
+        unacknowledgedMessage = null;
         super.close();
         if (consumer != null) {
             try {
@@ -156,4 +225,31 @@ public class JmsItemReader extends JmsItemReaderWriterBase implements ItemReader
             consumer = null;
         }
     }
+
+    /**
+     * Receives the next message, either from the consumer, or from the local buffer when {@link #receiveBatchSize}
+     * is greater than 1.
+     *
+     * @return the next message, or null if no message arrives within {@link #receiveTimeout}
+     * @throws JMSException if failed to receive
+     */
+    private Message receive() throws JMSException {
+        if (receiveBatchSize <= 1) {
+            final Message message = consumer.receive(receiveTimeout);
+            if (message != null) {
+                unacknowledgedMessage = message;
+            }
+            return message;
+        }
+
+        if (receivedMessages.isEmpty()) {
+            Message message = consumer.receive(receiveTimeout);
+            while (message != null) {
+                receivedMessages.add(message);
+                unacknowledgedMessage = message;
+                message = receivedMessages.size() < receiveBatchSize ? consumer.receiveNoWait() : null;
+            }
+        }
+        return receivedMessages.poll();
+    }
 }
@@ -90,12 +90,40 @@ public abstract class JmsItemReaderWriterBase extends ItemReaderWriterBase {
     @BatchProperty
     protected String sessionMode;
 
+    /**
+     * The fully-qualified class name of the {@link ItemCodec} implementation to encode data items into, and decode
+     * data items from, the body of {@code javax.jms.BytesMessage}. Optional property, and defaults to null (data items
+     * are sent and received as other JMS message types). Built-in implementations are {@link JsonItemCodec} and
+     * {@link SmileItemCodec}. {@link JmsItemReader} and {@link JmsItemWriter} of the same destination should use
+     * the same codec.
+     * <p>
+     * An example of this property in job xml:
+     * <pre>
+     * &lt;property name="codec" value="org.jberet.support.io.SmileItemCodec"/&gt;
+     * </pre>
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected Class codec;
+
     protected Destination destination;
     protected ConnectionFactory connectionFactory;
     protected Connection connection;
     protected Session session;
 
+    /**
+     * The {@link ItemCodec} instance created from {@link #codec}, or null if {@link #codec} is not specified.
+     */
+    protected ItemCodec itemCodec;
+
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
+        if (codec != null) {
+            final Class<?> codecClass = codec;
+            itemCodec = (ItemCodec) codecClass.getDeclaredConstructor().newInstance();
+        }
         InitialContext ic = null;
         try {
             if (destinationLookupName != null) {
@@ -163,5 +191,6 @@ public abstract class JmsItemReaderWriterBase extends ItemReaderWriterBase {
             }
             connection = null;
         }
+        closeMetrics();
     }
 }
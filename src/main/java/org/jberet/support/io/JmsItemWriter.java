@@ -10,18 +10,25 @@
 
 package org.jberet.support.io;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemWriter;
 import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
 import javax.inject.Named;
+import javax.jms.BytesMessage;
+import javax.jms.CompletionListener;
 import javax.jms.JMSException;
 import javax.jms.MapMessage;
 import javax.jms.Message;
 import javax.jms.MessageProducer;
 
 import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
 
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemWriter} that sends data items to a JMS destination. It can
@@ -36,6 +43,12 @@ import org.jberet.support._private.SupportLogger;
  * <li>else an {@code ObjectMessage} is created with the data item object, and sent.
  * </ul>
  * <p>
+ * If {@link #codec} is specified, any data item that is not of type {@code javax.jms.Message} is instead encoded with
+ * the codec directly into the body of a {@code BytesMessage}, which is then sent.
+ * <p>
+ * If the JMS session is created with {@code SESSION_TRANSACTED} {@link #sessionMode}, the session is committed once
+ * per chunk after all data items are sent, so that the broker only needs to sync once per chunk. If
+ * {@link #asyncSend} is true, messages are sent with JMS 2.0 asynchronous send.
  *
  * @see     JmsItemReader
  * @see     JmsItemReaderWriterBase
@@ -44,34 +57,96 @@ import org.jberet.support._private.SupportLogger;
 @Named
 @Dependent
 public class JmsItemWriter extends JmsItemReaderWriterBase implements ItemWriter {
+    /**
+     * Whether to send messages with JMS 2.0 asynchronous send
+     * ({@code javax.jms.MessageProducer#send(javax.jms.Message, javax.jms.CompletionListener)}). Optional property,
+     * and defaults to false. If true, the writer does not wait for the broker to confirm each message before sending
+     * the next one, but waits for all messages of the chunk to be confirmed before the chunk ends, and the chunk fails
+     * if any message failed. It requires a JMS 2.0 provider.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean asyncSend;
+
     protected MessageProducer producer;
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         super.open(checkpoint);
+        if (asyncSend && connection.getMetaData().getJMSMajorVersion() < 2) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, String.valueOf(asyncSend), "asyncSend");
+        }
         producer = session.createProducer(destination);
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        for (final Object item : items) {
-            final Message msg;
-            if (item instanceof Map) {
-                final Map<?, ?> itemAsMap = (Map) item;
-                final MapMessage mapMessage = session.createMapMessage();
-                for (final Map.Entry e : itemAsMap.entrySet()) {
-                    mapMessage.setObject(e.getKey().toString(), e.getValue());
+        final long startTime = metricsStartTime();
+        final SendCompletion completion = asyncSend ? new SendCompletion() : null;
+        try {
+            for (final Object item : items) {
+                final Message msg = createMessage(item);
+                if (completion == null) {
+                    producer.send(msg);
+                } else {
+                    completion.sending();
+                    try {
+                        producer.send(msg, completion);
+                    } catch (final JMSException | RuntimeException e) {
+                        completion.onException(msg, e);
+                        break;
+                    }
+                }
+            }
+            if (completion != null) {
+                completion.await(items.size());
+            }
+            if (session.getTransacted()) {
+                session.commit();
+            }
+        } catch (final Exception e) {
+            if (session.getTransacted()) {
+                try {
+                    session.rollback();
+                } catch (final JMSException e2) {
+                    SupportLogger.LOGGER.tracef(e2, "Failed to roll back JMS session %s%n", session);
                 }
-                msg = mapMessage;
-            } else if (item instanceof String) {
-                msg = session.createTextMessage((String) item);
-            } else if (item instanceof Message) {
-                msg = (Message) item;
-            } else {
-                msg = session.createObjectMessage((Serializable) item);
             }
-            producer.send(msg);
+            throw e;
         }
+        itemsWritten(startTime, items.size());
+    }
+
+    /**
+     * Creates a JMS message for the data item.
+     *
+     * @param item the data item
+     * @return the JMS message
+     * @throws Exception if failed to create the message
+     */
+    private Message createMessage(final Object item) throws Exception {
+        final Message msg;
+        if (itemCodec != null && !(item instanceof Message)) {
+            final BytesMessage bytesMessage = session.createBytesMessage();
+            itemCodec.encode(item, new BytesMessageOutputStream(bytesMessage));
+            msg = bytesMessage;
+        } else if (item instanceof Map) {
+            final Map<?, ?> itemAsMap = (Map) item;
+            final MapMessage mapMessage = session.createMapMessage();
+            for (final Map.Entry e : itemAsMap.entrySet()) {
+                mapMessage.setObject(e.getKey().toString(), e.getValue());
+            }
+            msg = mapMessage;
+        } else if (item instanceof String) {
+            msg = session.createTextMessage((String) item);
+        } else if (item instanceof Message) {
+            msg = (Message) item;
+        } else {
+            msg = session.createObjectMessage((Serializable) item);
+        }
+        return msg;
     }
 
     @Override
@@ -91,4 +166,77 @@ public class JmsItemWriter extends JmsItemReaderWriterBase implements ItemWriter
             producer = null;
         }
     }
+
+    /**
+     * Writes to the body of a {@code BytesMessage}, to encode data items with {@link #codec}.
+     */
+    private static final class BytesMessageOutputStream extends OutputStream {
+        private final BytesMessage message;
+
+        private BytesMessageOutputStream(final BytesMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            try {
+                message.writeByte((byte) b);
+            } catch (final JMSException e) {
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            try {
+                message.writeBytes(b, off, len);
+            } catch (final JMSException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Tracks the completion of messages sent asynchronously in the current chunk.
+     */
+    private static final class SendCompletion implements CompletionListener {
+        private int pending;
+        private int failed;
+        private Exception firstFailure;
+
+        private synchronized void sending() {
+            pending++;
+        }
+
+        @Override
+        public synchronized void onCompletion(final Message message) {
+            pending--;
+            notifyAll();
+        }
+
+        @Override
+        public synchronized void onException(final Message message, final Exception exception) {
+            if (firstFailure == null) {
+                firstFailure = exception;
+            }
+            failed++;
+            pending--;
+            notifyAll();
+        }
+
+        /**
+         * Waits for all messages sent to complete.
+         *
+         * @param total the number of data items in the current chunk
+         * @throws Exception if any message failed
+         */
+        private synchronized void await(final int total) throws Exception {
+            while (pending > 0) {
+                wait();
+            }
+            if (failed > 0) {
+                throw SupportMessages.MESSAGES.failToWriteItems(firstFailure, failed, total);
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * An implementation of {@link MetricsSink} that registers {@link ItemReaderWriterMetrics} as a JMX MBean in the
+ * platform {@code MBeanServer}, while the item reader or writer is open. The MBean {@code ObjectName} is
+ * <p>
+ * {@value #DOMAIN}:type=ItemReaderWriterMetrics,name=&lt;metrics name&gt;
+ * <p>
+ * where the metrics name is composed of the step name, the item reader or writer class simple name, and a unique
+ * sequence number, e.g., {@code "step1.CsvItemReader.1"}. The MBean attributes are defined in
+ * {@link ItemReaderWriterMetricsMBean}.
+ *
+ * @see ItemReaderWriterBase#metricsSink
+ * @since 2.0.0
+ */
+public class JmxMetricsSink implements MetricsSink {
+    /**
+     * The domain of MBean {@code ObjectName}.
+     */
+    public static final String DOMAIN = "org.jberet.support";
+
+    protected final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    @Override
+    public void register(final ItemReaderWriterMetrics metrics) throws Exception {
+        mBeanServer.registerMBean(metrics, getObjectName(metrics));
+    }
+
+    @Override
+    public void unregister(final ItemReaderWriterMetrics metrics) throws Exception {
+        final ObjectName objectName = getObjectName(metrics);
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    /**
+     * Gets the {@code ObjectName} to register the metrics.
+     *
+     * @param metrics the metrics of the item reader or writer
+     * @return the {@code ObjectName}
+     * @throws Exception if failed to create the {@code ObjectName}
+     */
+    protected ObjectName getObjectName(final ItemReaderWriterMetrics metrics) throws Exception {
+        return new ObjectName(DOMAIN + ":type=ItemReaderWriterMetrics,name=" + ObjectName.quote(metrics.getName()));
+    }
+}
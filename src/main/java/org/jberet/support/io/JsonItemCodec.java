@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * An implementation of {@link ItemCodec} that encodes data items into, and decodes data items from, UTF-8 JSON
+ * content with Jackson. Data items are encoded directly into the message body, and decoded as in
+ * {@link JsonItemDecoder}.
+ *
+ * @see ItemCodec
+ * @see SmileItemCodec
+ * @since 2.0.0
+ */
+public class JsonItemCodec extends JsonItemDecoder implements ItemCodec {
+    /**
+     * The {@code ObjectWriter} that leaves the {@code OutputStream} open after writing each data item.
+     */
+    private final ObjectWriter objectWriter;
+
+    public JsonItemCodec() {
+        this((ObjectMapper) new MappingJsonFactory().getCodec());
+    }
+
+    public JsonItemCodec(final ObjectMapper objectMapper) {
+        super(objectMapper);
+        objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void encode(final Object item, final OutputStream out) throws Exception {
+        objectWriter.writeValue(out, item);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+/**
+ * An implementation of {@link ItemDecoder} that decodes UTF-8 JSON content with Jackson, directly from the byte array
+ * or {@code ByteBuffer} without an intermediate {@code String}.
+ * <p>
+ * By default, the {@code ObjectMapper} is obtained from a new {@code com.fasterxml.jackson.databind.MappingJsonFactory},
+ * the same as in {@link JsonItemReaderWriterBase}. Subclass may pass a configured {@code ObjectMapper} to
+ * {@link #JsonItemDecoder(ObjectMapper)}, as {@link KafkaItemReader} does with its Jackson batch properties.
+ *
+ * @see ItemDecoder
+ * @since 2.0.0
+ */
+public class JsonItemDecoder implements ItemDecoder {
+    protected final ObjectMapper objectMapper;
+
+    /**
+     * The {@code ObjectReader} for the most recent {@code beanType}, to avoid looking up the deserializer for each item.
+     */
+    private ObjectReader objectReader;
+
+    public JsonItemDecoder() {
+        this((ObjectMapper) new MappingJsonFactory().getCodec());
+    }
+
+    public JsonItemDecoder(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object decode(final byte[] data, final int offset, final int length, final Class<?> beanType) throws Exception {
+        return getObjectReader(beanType).readValue(data, offset, length);
+    }
+
+    @Override
+    public Object decode(final ByteBuffer data, final Class<?> beanType) throws Exception {
+        if (data.hasArray()) {
+            return getObjectReader(beanType).readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        }
+        return getObjectReader(beanType).readValue(new ByteBufferBackedInputStream(data));
+    }
+
+    private ObjectReader getObjectReader(final Class<?> beanType) {
+        ObjectReader reader = objectReader;
+        if (reader == null || reader.getValueType().getRawClass() != beanType) {
+            objectReader = reader = objectMapper.readerFor(beanType);
+        }
+        return reader;
+    }
+}
@@ -10,6 +10,9 @@
 
 package org.jberet.support.io;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Map;
 import javax.batch.api.BatchProperty;
@@ -19,11 +22,14 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.InputDecorator;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
+import static org.jberet.support.io.CsvProperties.RESOURCE_KEY;
+
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} that reads from Json resource that consists of a
  * collection of same-typed data items. Its {@link #readItem()} method reads one item at a time, and binds it to a
@@ -117,23 +123,141 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Class inputDecorator;
 
+    /**
+     * Whether to save the byte offset of the current read position as part of the checkpoint data. Optional property,
+     * and defaults to {@code false}. When set to {@code true}, the checkpoint of this reader is a
+     * {@link ByteOffsetCheckpoint}, and upon restart, this reader seeks directly to the saved byte offset in the
+     * {@link #resource}, instead of parsing all data items before it. So the cost of restart does not grow with the
+     * size of the resource.
+     * <p>
+     * Resuming from byte offset requires the {@link #resource} to be a local file (a file path, a {@code file:} URL,
+     * or a classpath resource residing in a directory), and {@link #inputDecorator} not specified. Otherwise, this
+     * reader falls back to restarting from the saved row number.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean checkpointByteOffset;
+
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read starts. Optional property, and defaults to
+     * 0. This reader skips to the first data item that starts at or after this offset, without parsing any content
+     * before it.
+     * <p>
+     * Together with {@link #byteEnd}, this property divides the {@link #resource} into byte ranges that can be read
+     * by multiple partitions in parallel, where each data item is read by exactly one partition. For example, each
+     * partition may be configured with the byte range generated by {@link ByteRangePartitionMapper}. When reading a
+     * byte range, {@link #start} and {@link #end} are relative to the range, the {@link #resource} must be a local
+     * file in {@code UTF-8} encoding, {@link #inputDecorator} must not be specified, and the {@link #resource} must
+     * be either a sequence of data items (e.g., Json Lines), or a single array of data items. Each data item must
+     * start on a new line with <code>{</code>, and no nested Json object may start a line.
+     *
+     * @see #byteEnd
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteStart;
+
+    /**
+     * The byte offset in the {@link #resource} where the byte range to read ends (exclusive). Optional property, and
+     * defaults to 0, i.e., reading till the end of the {@link #resource}. The range actually read ends right before
+     * the first data item that starts at or after this offset.
+     *
+     * @see #byteStart
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long byteEnd;
+
+    /**
+     * Json content prepended to a byte range inside a Json array, which opens the array with a dummy number element,
+     * so that the array elements in the range, which start after a comma, can follow.
+     */
+    private static final byte[] ARRAY_RANGE_PREFIX = {'[', '0', ','};
+
+    /**
+     * Json content appended to a byte range inside a Json array, which closes the array with a dummy number element,
+     * since the last array element in the range ends with a comma.
+     */
+    private static final byte[] ARRAY_RANGE_SUFFIX = {'0', ']'};
+
     protected JsonParser jsonParser;
     private JsonToken token;
     protected int rowNumber;
 
+    /**
+     * The difference between the byte offset in {@link #resource} and the byte offset reported by {@link #jsonParser},
+     * which is non-zero when resuming from a {@link ByteOffsetCheckpoint}.
+     */
+    private long byteOffsetAdjustment;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
-        if (checkpoint != null) {
+        ByteOffsetCheckpoint offsetCheckpoint = null;
+        if (checkpoint instanceof ByteOffsetCheckpoint) {
+            offsetCheckpoint = (ByteOffsetCheckpoint) checkpoint;
+        } else if (checkpoint != null) {
             start = (Integer) checkpoint;
         }
         if (start > end) {
-            throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+            throw SupportMessages.MESSAGES.invalidStartPosition(start, start, end);
         }
         initJsonFactoryAndObjectMapper();
-        jsonParser = configureJsonParser(this, inputDecorator, deserializationProblemHandlers, jsonParserFeatures);
+
+        long rangeStart = 0;
+        long rangeEnd = -1;
+        byte[] rangePrefix = null;
+        byte[] rangeSuffix = null;
+        if (byteStart > 0 || byteEnd > 0) {
+            final File file = getResourceFile(resource);
+            if (file == null || inputDecorator != null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, resource, RESOURCE_KEY);
+            }
+            final boolean inArray = isJsonArray();
+            if (byteStart > 0) {
+                rangeStart = findLineStart(resource, byteStart, '{');
+                if (inArray) {
+                    rangePrefix = ARRAY_RANGE_PREFIX;
+                }
+            }
+            if (byteEnd > 0) {
+                rangeEnd = findLineStart(resource, byteEnd, '{');
+            }
+
+            // the closing bracket of the array is not in range if the range does not reach the last data item
+            final long length = file.length();
+            if (inArray && (rangeEnd >= 0 && rangeEnd < length || rangeStart >= length)) {
+                rangeSuffix = ARRAY_RANGE_SUFFIX;
+            }
+        }
+
+        InputStream inputStream = null;
+        if (offsetCheckpoint != null) {
+            final long byteOffset = offsetCheckpoint.getByteOffset();
+            inputStream = inputDecorator == null ? getInputStreamInRange(resource, byteOffset, rangeEnd,
+                    offsetCheckpoint.getPrefixBytes(), byteOffset < rangeEnd ? rangeSuffix : null) : null;
+            if (inputStream == null) {
+                start = offsetCheckpoint.getRowNumber();
+            } else {
+                rowNumber = offsetCheckpoint.getRowNumber();
+                byteOffsetAdjustment = offsetCheckpoint.getByteOffset() - offsetCheckpoint.getPrefixBytes().length;
+            }
+        }
+        if (inputStream == null && (rangeStart > 0 || rangeEnd >= 0)) {
+            inputStream = getInputStreamInRange(resource, rangeStart, rangeEnd, rangePrefix, rangeSuffix);
+            byteOffsetAdjustment = rangePrefix == null ? rangeStart : rangeStart - rangePrefix.length;
+        }
+        if (inputStream == null) {
+            inputStream = getInputStream(resource, false);
+        }
+        jsonParser = configureJsonParser(this, inputStream, inputDecorator, deserializationProblemHandlers, jsonParserFeatures);
     }
 
     @Override
@@ -141,6 +265,7 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
         if (rowNumber >= end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         int nestedObjectLevel = 0;
         do {
             token = jsonParser.nextToken();
@@ -164,11 +289,17 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
         if (!skipBeanValidation) {
             ItemReaderWriterBase.validate(readValue);
         }
-        return readValue;
+        return itemRead(startTime, readValue);
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (checkpointByteOffset && inputDecorator == null) {
+            final long byteOffset = jsonParser.getCurrentLocation().getByteOffset();
+            if (byteOffset >= 0) {
+                return new ByteOffsetCheckpoint(rowNumber, byteOffset + byteOffsetAdjustment, getResumePrefix());
+            }
+        }
         return rowNumber;
     }
 
@@ -182,9 +313,59 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
             jsonParser.close();
             jsonParser = null;
         }
+        closeMetrics();
+    }
+
+    /**
+     * Checks if the {@link #resource} is a Json array, i.e., its first non-whitespace character is {@code [}.
+     *
+     * @return true if the resource is a Json array; false otherwise
+     * @throws IOException if failed to read the resource
+     */
+    private boolean isJsonArray() throws IOException {
+        try (final InputStream inputStream = new UnicodeBOMInputStream(getInputStream(resource, false)).skipBOM()) {
+            int b;
+            do {
+                b = inputStream.read();
+            } while (b == ' ' || b == '\t' || b == '\r' || b == '\n');
+            return b == '[';
+        }
+    }
+
+    /**
+     * Gets the Json content needed to restore the array structure enclosing the current read position. All data items
+     * are top-level Json objects, so the current position can only be nested inside arrays. The innermost array is
+     * opened with a dummy number element, so that any remaining array elements, which start with a comma, can follow.
+     *
+     * @return the prefix to prepend to the remaining resource content when resuming
+     */
+    private String getResumePrefix() {
+        int arrayDepth = 0;
+        for (JsonStreamContext context = jsonParser.getParsingContext(); context != null; context = context.getParent()) {
+            if (context.inArray()) {
+                arrayDepth++;
+            }
+        }
+        if (arrayDepth == 0) {
+            return null;
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < arrayDepth; i++) {
+            sb.append('[');
+        }
+        return sb.append('0').toString();
+    }
+
+    protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
+                                                    final Class<?> inputDecorator,
+                                                    final String deserializationProblemHandlers,
+                                                    final Map<String, String> jsonParserFeatures) throws Exception {
+        return configureJsonParser(batchReaderArtifact, getInputStream(batchReaderArtifact.resource, false),
+                inputDecorator, deserializationProblemHandlers, jsonParserFeatures);
     }
 
     protected static JsonParser configureJsonParser(final JsonItemReaderWriterBase batchReaderArtifact,
+                                                    final InputStream inputStream,
                                                     final Class<?> inputDecorator,
                                                     final String deserializationProblemHandlers,
                                                     final Map<String, String> jsonParserFeatures) throws Exception {
@@ -194,7 +375,7 @@ public class JsonItemReader extends JsonItemReaderWriterBase implements ItemRead
                     (InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        jsonParser = batchReaderArtifact.jsonFactory.createParser(getInputStream(batchReaderArtifact.resource, false));
+        jsonParser = batchReaderArtifact.jsonFactory.createParser(batchReaderArtifact.countBytes(inputStream));
 
         if (deserializationProblemHandlers != null) {
             MappingJsonFactoryObjectFactory.configureDeserializationProblemHandlers(
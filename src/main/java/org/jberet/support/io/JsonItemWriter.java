@@ -99,6 +99,7 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         SupportLogger.LOGGER.tracef("Open JsonItemWriter with checkpoint %s, which is ignored for JsonItemWriter.%n", checkpoint);
         initJsonFactoryAndObjectMapper();
 
@@ -117,10 +118,12 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         for (final Object o : items) {
             jsonGenerator.writeObject(o);
         }
         jsonGenerator.flush();
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -135,6 +138,7 @@ public class JsonItemWriter extends JsonItemReaderWriterBase implements ItemWrit
             jsonGenerator.close();
             jsonGenerator = null;
         }
+        closeMetrics();
     }
 
     protected static JsonGenerator configureJsonGenerator(final JsonFactory jsonFactory,
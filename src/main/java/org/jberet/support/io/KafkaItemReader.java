@@ -11,21 +11,28 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
 /**
@@ -38,6 +45,18 @@ import org.jberet.support._private.SupportMessages;
  * <p>
  * It is also recommended to turn off Kafka consumer automatic group management; instead manually assign topics and
  * partitions for the consumer. See batch property {@link #topicPartitions}.
+ * <p>
+ * By default, Kafka consumer poll operation is performed in {@link #readItem()} whenever the records obtained from the
+ * previous poll have all been read. If batch property {@link #queueCapacity} is set to a positive number, a background
+ * thread polls Kafka server and pre-fetches records into a bounded queue, so that polling overlaps with the processing
+ * of records in the step thread. In both modes, the reader position is tracked only for records returned by
+ * {@link #readItem()}.
+ * <p>
+ * By default, the record value, as deserialized by the Kafka consumer, is returned as the data item. If batch property
+ * {@link #beanType} is specified, record values of type {@code byte[]} or {@code ByteBuffer} are decoded into
+ * {@code beanType} with {@link #decoder}. In that case, the consumer should be configured with
+ * {@code value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer} or
+ * {@code org.apache.kafka.common.serialization.ByteBufferDeserializer}, to avoid any intermediate object.
  *
  * @see KafkaItemWriter
  * @see KafkaItemReaderWriterBase
@@ -68,6 +87,83 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
     @BatchProperty
     protected long pollTimeout;
 
+    /**
+     * The capacity of the queue that holds records pre-fetched by a background polling thread. Optional property, and
+     * defaults to 0, which disables pre-fetching, and Kafka server is polled in {@link #readItem()}. When enabled, the
+     * background thread stops polling at the first poll that returns no records, which signals the end of data, as in
+     * the default mode.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int queueCapacity;
+
+    /**
+     * The type of data items to decode record values into. Optional property, and if not specified, record values are
+     * returned as is. When specified, record values of type {@code byte[]} or {@code java.nio.ByteBuffer} are decoded
+     * with {@link #decoder}, record values that are already of {@code beanType} are returned as is, and any other
+     * record value causes an exception.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected Class beanType;
+
+    /**
+     * The fully-qualified class name of the {@link ItemDecoder} implementation to decode record values into
+     * {@link #beanType}. Optional property, and defaults to {@link JsonItemDecoder}. Only used when {@link #beanType}
+     * is specified.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected Class decoder;
+
+    /**
+     * A comma-separated list of key-value pairs that specify {@code com.fasterxml.jackson.databind.DeserializationFeature}s
+     * for the default {@link JsonItemDecoder}. Optional property and defaults to null. For example,
+     * <p>
+     * <pre>
+     * USE_BIG_DECIMAL_FOR_FLOATS=true, FAIL_ON_UNKNOWN_PROPERTIES=false
+     * </pre>
+     *
+     * @see JsonItemReaderWriterBase#deserializationFeatures
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String deserializationFeatures;
+
+    /**
+     * A comma-separated list of fully-qualified name of classes that implement
+     * {@code com.fasterxml.jackson.databind.JsonDeserializer}, to register with the default {@link JsonItemDecoder}.
+     * Optional property and defaults to null.
+     *
+     * @see JsonItemReaderWriterBase#customDeserializers
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String customDeserializers;
+
+    /**
+     * A comma-separated list of Jackson datatype module type ids that extend {@code com.fasterxml.jackson.databind.Module},
+     * to register with the default {@link JsonItemDecoder}. Optional property and defaults to null. For example,
+     * <p>
+     * <pre>
+     * com.fasterxml.jackson.datatype.jsr310.JavaTimeModule
+     * </pre>
+     *
+     * @see JsonItemReaderWriterBase#customDataTypeModules
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String customDataTypeModules;
+
     /**
      * Kafka consumer instance based on configuration properties specified in {@link #configFile}.
      * It is created in {@link #open(Serializable)} method, and closed in {@link #close()} method.
@@ -90,6 +186,28 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
      */
     protected HashMap<String, Long> topicPartitionOffset = new HashMap<String, Long>();
 
+    /**
+     * Marks the end of data in {@link #queue}.
+     */
+    private static final Object END_OF_RECORDS = new Object();
+
+    /**
+     * Holds records pre-fetched by {@link #prefetcher}, and any throwable or {@link #END_OF_RECORDS} that ends the
+     * pre-fetching. Only used when {@link #queueCapacity} is positive.
+     */
+    private BlockingQueue<Object> queue;
+
+    /**
+     * The background thread that exclusively uses {@link #consumer} to poll Kafka server, while pre-fetching is enabled.
+     */
+    private Thread prefetcher;
+
+    private volatile boolean prefetchStopped;
+
+    private boolean endOfRecords;
+
+    private ItemDecoder decoderInstance;
+
     /**
      * During the reader opening, the Kafka consumer is instantiated, and {@code checkpoint}, if any, is analyzed to
      * position the reader properly. The Kafka consumer is created based on the configuration properties as specified
@@ -102,6 +220,9 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
     @SuppressWarnings("unchecked")
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        if (beanType != null) {
+            decoderInstance = createDecoder();
+        }
         consumer = new KafkaConsumer(createConfigProperties());
         consumer.assign(createTopicPartitions());
 
@@ -125,6 +246,20 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
                 consumer.seek(new TopicPartition(topic, partition), newStartPosition);
             }
         }
+
+        if (queueCapacity > 0) {
+            queue = new ArrayBlockingQueue<Object>(queueCapacity);
+            prefetchStopped = false;
+            endOfRecords = false;
+            prefetcher = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    prefetch();
+                }
+            }, getClass().getSimpleName() + "-prefetch");
+            prefetcher.setDaemon(true);
+            prefetcher.start();
+        }
     }
 
     /**
@@ -144,6 +279,9 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
      * mimic the read-one-item-at-a-time behavior. Therefore, Kafka consumer poll operation is only invoked when the
      * local cache does not exist or contains no more entry. If no more record can be retrieved from Kafka server, null
      * is returned.
+     * <p>
+     * If pre-fetching is enabled with {@link #queueCapacity}, the next record is taken from the pre-fetch queue
+     * instead, waiting for the background polling thread if necessary.
      *
      * @return the value object of the read record from Kafka server
      *
@@ -152,6 +290,9 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
     @SuppressWarnings("unchecked")
     @Override
     public Object readItem() throws Exception {
+        if (queue != null) {
+            return readPrefetchedItem();
+        }
         if (recordsBuffer == null || !recordsBuffer.hasNext()) {
             ConsumerRecords records = consumer.poll(pollTimeout);
             if (records == null || records.isEmpty()) {
@@ -164,24 +305,128 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
             if (rec == null) {
                 return null;
             }
-            final Object val = rec.value();
-            topicPartitionOffset.put(rec.topic() + topicPartitionDelimiter + rec.partition(), rec.offset());
-            return val;
+            return readRecord(rec);
         }
         return null;
     }
 
     /**
-     * Closes the Kafka consumer.
+     * Decodes the record value into {@link #beanType} with {@link #decoder}.
+     * Subclass may override this method to decode record values differently.
+     *
+     * @param value the record value as deserialized by the Kafka consumer
+     * @return the data item decoded from {@code value}
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected Object decode(final Object value) throws Exception {
+        if (value == null || beanType.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            return decoderInstance.decode(bytes, 0, bytes.length, beanType);
+        }
+        if (value instanceof ByteBuffer) {
+            return decoderInstance.decode((ByteBuffer) value, beanType);
+        }
+        throw SupportMessages.MESSAGES.unexpectedDataType("byte[] | java.nio.ByteBuffer | " + beanType.getName(),
+                value.getClass().getName(), value);
+    }
+
+    /**
+     * Closes the Kafka consumer, after stopping the background polling thread if pre-fetching is enabled.
      */
     @Override
     public void close() {
+        if (prefetcher != null) {
+            prefetchStopped = true;
+            consumer.wakeup();
+            prefetcher.interrupt();
+            try {
+                prefetcher.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            prefetcher = null;
+            queue = null;
+        }
         if (consumer != null) {
             consumer.close();
             consumer = null;
         }
     }
 
+    /**
+     * Gets the value of the record, and updates the current read position.
+     *
+     * @param rec the record read from Kafka server
+     * @return the value of the record, decoded into {@link #beanType} if specified
+     * @throws Exception if failed to decode the record value
+     */
+    private Object readRecord(final ConsumerRecord rec) throws Exception {
+        final Object val = beanType == null ? rec.value() : decode(rec.value());
+        topicPartitionOffset.put(rec.topic() + topicPartitionDelimiter + rec.partition(), rec.offset());
+        return val;
+    }
+
+    /**
+     * Takes the next record from the pre-fetch queue.
+     *
+     * @return the value of the next record, or null if no more record is available
+     * @throws Exception if the background polling thread failed
+     */
+    private Object readPrefetchedItem() throws Exception {
+        if (endOfRecords) {
+            return null;
+        }
+        final Object next = queue.take();
+        if (next instanceof ConsumerRecord) {
+            return readRecord((ConsumerRecord) next);
+        }
+        endOfRecords = true;
+        if (next instanceof Exception) {
+            throw (Exception) next;
+        }
+        if (next instanceof Error) {
+            throw (Error) next;
+        }
+        return null;
+    }
+
+    /**
+     * Polls Kafka server and puts records into the pre-fetch queue, until a poll returns no records, or pre-fetching
+     * is stopped. This method runs in the background polling thread.
+     */
+    private void prefetch() {
+        try {
+            while (!prefetchStopped) {
+                final ConsumerRecords records = consumer.poll(pollTimeout);
+                if (records == null || records.isEmpty()) {
+                    queue.put(END_OF_RECORDS);
+                    return;
+                }
+                for (final Object rec : records) {
+                    queue.put(rec);
+                }
+            }
+        } catch (final WakeupException e) {
+            SupportLogger.LOGGER.tracef("Stopped pre-fetching records from %s%n", topicPartitions);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Throwable e) {
+            // also pass on any Error, otherwise readItem() would wait forever for records from this thread
+            if (!prefetchStopped) {
+                try {
+                    queue.put(e);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
     /**
      * Creates and returns a list of {@code TopicPartition} based on the injected batch property {@link #topicPartitions}.
      *
@@ -205,4 +450,28 @@ public class KafkaItemReader extends KafkaItemReaderWriterBase implements ItemRe
         }
         return tps;
     }
+
+    /**
+     * Creates the {@link ItemDecoder} to decode record values into {@link #beanType}. If {@link #decoder} is not
+     * specified, a {@link JsonItemDecoder} is created, whose {@code ObjectMapper} is configured with
+     * {@link #deserializationFeatures}, {@link #customDeserializers} and {@link #customDataTypeModules}.
+     *
+     * @return the decoder instance
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected ItemDecoder createDecoder() throws Exception {
+        if (decoder != null) {
+            final Class<?> decoderClass = decoder;
+            return (ItemDecoder) decoderClass.getDeclaredConstructor().newInstance();
+        }
+        final ObjectMapper objectMapper = (ObjectMapper) new MappingJsonFactory().getCodec();
+        if (deserializationFeatures != null) {
+            MappingJsonFactoryObjectFactory.configureDeserializationFeatures(objectMapper, deserializationFeatures);
+        }
+        MappingJsonFactoryObjectFactory.configureCustomSerializersAndDeserializers(
+                objectMapper, null, customDeserializers, customDataTypeModules, getClass().getClassLoader());
+        return new JsonItemDecoder(objectMapper);
+    }
 }
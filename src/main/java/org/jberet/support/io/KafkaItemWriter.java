@@ -11,7 +11,10 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemWriter;
 import javax.enterprise.context.Dependent;
@@ -20,11 +23,17 @@ import javax.inject.Named;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.jberet.support._private.SupportMessages;
 
 /**
  * An implementation of {@code ItemWriter} that sends data items to Kafka {@code TopicPartition} as specified in batch
  * property {@link #topicPartition}.
+ * <p>
+ * By default, records are sent asynchronously and their delivery is not checked. When {@link #awaitAcknowledgement}
+ * is set to true, the writer keeps the send result of all records in the current chunk, and before the chunk
+ * checkpoint is committed, flushes the producer and fails the chunk if any record was not acknowledged by the Kafka
+ * server, thus providing at-least-once delivery.
  *
  * @see KafkaItemReader
  * @see KafkaItemReaderWriterBase
@@ -55,11 +64,31 @@ public class KafkaItemWriter extends KafkaItemReaderWriterBase implements ItemWr
     @BatchProperty
     protected String recordKey;
 
+    /**
+     * Whether to wait for the acknowledgement of all records sent in the current chunk, before the chunk checkpoint is
+     * committed. If true, records are still sent asynchronously in {@link #writeItems(List)}, and
+     * {@link #checkpointInfo()} flushes the producer and checks the result of every record sent in the chunk. Any
+     * delivery failure causes the chunk to fail. Optional property, and defaults to false.
+     * <p>
+     * The level of acknowledgement is controlled by producer configuration property {@code acks} in
+     * {@link #configFile}.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean awaitAcknowledgement;
+
     /**
      * The Kafka producer responsible for sending the records.
      */
     protected KafkaProducer producer;
 
+    /**
+     * The send results of records in the current chunk, when {@link #awaitAcknowledgement} is true.
+     */
+    private final List<Future<RecordMetadata>> pendingSends = new ArrayList<Future<RecordMetadata>>();
+
     /**
      * The topic name extracted from {@link #topicPartition}. This field is used as the default destination topic name.
      * Subclass may override method {@link #getTopic(Object)} to provide the topic name differently.
@@ -83,6 +112,7 @@ public class KafkaItemWriter extends KafkaItemReaderWriterBase implements ItemWr
     @Override
     public void open(final Serializable checkpoint) throws Exception {
         producer = new KafkaProducer(createConfigProperties());
+        pendingSends.clear();
 
         if (topicPartition == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "topicPartition");
@@ -100,6 +130,8 @@ public class KafkaItemWriter extends KafkaItemReaderWriterBase implements ItemWr
 
     /**
      * Creates Kafka {@code ProducerRecord} and sends it to Kafka topic partition for each item in data {@code items}.
+     * If {@link #awaitAcknowledgement} is true, the send result of each record is kept to be checked in
+     * {@link #checkpointInfo()}.
      *
      * @param items data items to be sent to Kafka server
      *
@@ -109,17 +141,26 @@ public class KafkaItemWriter extends KafkaItemReaderWriterBase implements ItemWr
     @SuppressWarnings("unchecked")
     public void writeItems(final List<Object> items) throws Exception {
         for (final Object item : items) {
-            producer.send(new ProducerRecord(getTopic(item), getPartition(item), getRecordKey(item), item));
+            final Future<RecordMetadata> result =
+                    producer.send(new ProducerRecord(getTopic(item), getPartition(item), getRecordKey(item), item));
+            if (awaitAcknowledgement) {
+                pendingSends.add(result);
+            }
         }
     }
 
     /**
-     * Returns null checkpoint info for this writer.
+     * Returns null checkpoint info for this writer. If {@link #awaitAcknowledgement} is true, this method first
+     * flushes the producer and waits for the acknowledgement of all records sent in the current chunk.
      *
      * @return null checkpoint info
+     * @throws javax.batch.operations.BatchRuntimeException if any record in the current chunk failed to be sent
      */
     @Override
     public Serializable checkpointInfo() {
+        if (awaitAcknowledgement && !pendingSends.isEmpty()) {
+            awaitPendingSends();
+        }
         return null;
     }
 
@@ -134,6 +175,39 @@ public class KafkaItemWriter extends KafkaItemReaderWriterBase implements ItemWr
         }
     }
 
+    /**
+     * Flushes the producer, and checks the send result of all records in the current chunk.
+     *
+     * @throws javax.batch.operations.BatchRuntimeException if any record failed to be sent
+     */
+    private void awaitPendingSends() {
+        final int total = pendingSends.size();
+        int failed = 0;
+        Throwable firstFailure = null;
+        try {
+            producer.flush();
+            for (final Future<RecordMetadata> result : pendingSends) {
+                try {
+                    result.get();
+                } catch (final ExecutionException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e.getCause();
+                    }
+                    failed++;
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            firstFailure = e;
+            failed = total;
+        } finally {
+            pendingSends.clear();
+        }
+        if (firstFailure != null) {
+            throw SupportMessages.MESSAGES.failToSendKafkaRecords(firstFailure, failed, total);
+        }
+    }
+
     /**
      * Gets the destination topic used when sending {@code ProducerRecord}.
      * Subclass may override this method to provide a suitable topic.
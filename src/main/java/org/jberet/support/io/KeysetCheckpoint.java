@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Checkpoint data saved by item readers that page through the data source in key order (keyset pagination). In
+ * addition to the number of data items read so far, it records the key values of the last data item read, so that a
+ * restarted reader can query the data items after that key directly, instead of skipping all preceding data items.
+ *
+ * @see JdbcItemReader#keyColumns
+ * @see MongoItemReader#keyField
+ * @since 2.0.0
+ */
+public final class KeysetCheckpoint implements Serializable {
+    private static final long serialVersionUID = -6179476357839455284L;
+
+    /**
+     * Number of data items read so far.
+     */
+    private final int rowNumber;
+
+    /**
+     * Key values of the last data item read, in the order of key columns.
+     */
+    private final Object[] keyValues;
+
+    public KeysetCheckpoint(final int rowNumber, final Object[] keyValues) {
+        this.rowNumber = rowNumber;
+        this.keyValues = keyValues;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public Object[] getKeyValues() {
+        return keyValues;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCheckpoint{" +
+                "rowNumber=" + rowNumber +
+                ", keyValues=" + Arrays.toString(keyValues) +
+                '}';
+    }
+}
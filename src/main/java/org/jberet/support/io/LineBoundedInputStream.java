@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A buffered {@code java.io.InputStream} that never returns bytes past the next line feed in one read operation, and
+ * always reports no available bytes. When it is decoded by {@code java.io.InputStreamReader} and read line by line
+ * with {@code java.io.BufferedReader}, as done by the supercsv tokenizer, the upper layers never read ahead of the
+ * current line. So {@link #getCount()} is the byte offset right after the last line read.
+ * <p>
+ * This only works with charsets where line feed is encoded as the single byte {@code 0x0A}, which never appears as
+ * part of other characters, e.g., {@code UTF-8}, {@code US-ASCII}, or {@code ISO-8859-1}.
+ *
+ * @see CsvItemReader#checkpointByteOffset
+ * @since 2.0.0
+ */
+final class LineBoundedInputStream extends FilterInputStream {
+    private final byte[] buffer = new byte[8192];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * Number of bytes returned to the caller.
+     */
+    private long count;
+
+    LineBoundedInputStream(final InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Gets the number of bytes that have been read from this stream.
+     *
+     * @return the number of bytes read
+     */
+    long getCount() {
+        return count;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        count++;
+        return buffer[position++] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+        final int max = Math.min(len, limit - position);
+        int n = 0;
+        while (n < max) {
+            if (buffer[position + n++] == '\n') {
+                break;
+            }
+        }
+        System.arraycopy(buffer, position, b, off, n);
+        position += n;
+        count += n;
+        return n;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && (position < limit || fill())) {
+            final int step = (int) Math.min(n - skipped, limit - position);
+            position += step;
+            skipped += step;
+        }
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return 0;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private boolean fill() throws IOException {
+        final int n = in.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(n, 0);
+        return n > 0;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+/**
+ * Publishes {@link ItemReaderWriterMetrics} of item readers and writers to a monitoring system. Implementations are
+ * specified with {@link ItemReaderWriterBase#metricsSink} batch property, and must have a public no-arg constructor.
+ * A new sink instance is created for each item reader or writer.
+ *
+ * @see JmxMetricsSink
+ * @since 2.0.0
+ */
+public interface MetricsSink {
+    /**
+     * Publishes the metrics, when the item reader or writer is opened.
+     *
+     * @param metrics the metrics of the item reader or writer
+     * @throws Exception if failed to publish the metrics
+     */
+    void register(ItemReaderWriterMetrics metrics) throws Exception;
+
+    /**
+     * Withdraws the metrics, when the item reader or writer is closed. The final values of the metrics are still
+     * available from the {@code metrics} object.
+     *
+     * @param metrics the metrics of the item reader or writer
+     * @throws Exception if failed to withdraw the metrics
+     */
+    void unregister(ItemReaderWriterMetrics metrics) throws Exception;
+}
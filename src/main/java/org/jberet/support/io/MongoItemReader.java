@@ -11,6 +11,7 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
@@ -19,9 +20,16 @@ import javax.inject.Named;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
+import org.jberet.support._private.SupportMessages;
 
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemReader} that reads from a collection in a MongoDB database.
+ * <p>
+ * By default, the checkpoint info of this reader is the number of documents read, and a restarted reader skips that
+ * many documents, which takes time proportional to the number of skipped documents on the server. If batch property
+ * {@link #keyField} is specified, documents are read in the order of that field, and the checkpoint info is a
+ * {@link KeysetCheckpoint} containing the key of the last document read, so that a restarted reader queries the
+ * documents after that key directly.
  *
  * @see     MongoItemWriter
  * @see     MongoItemReaderWriterBase
@@ -100,23 +108,66 @@ public class MongoItemReader extends MongoItemReaderWriterBase implements ItemRe
     @BatchProperty
     protected int skip;
 
+    /**
+     * The field to read documents in order of, and to resume reading from upon restart, e.g., {@code _id}. It should
+     * be an indexed field with unique values, and included in {@link #projection} if that is specified. Optional
+     * property, and defaults to null (documents are read in natural order and restart skips the documents already
+     * read). This property cannot be used together with {@link #sort}.
+     *
+     * @see KeysetCheckpoint
+     * @see MongoKeyRangePartitionMapper
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String keyField;
+
     protected org.mongojack.DBCursor<Object> cursor;
 
+    /**
+     * Number of documents read, including those read before restart, when {@link #keyField} is specified.
+     */
+    private int rowNumber;
+
+    /**
+     * Value of {@link #keyField} of the last document read, when {@link #keyField} is specified.
+     */
+    private Object lastKeyValue;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         super.init();
-        final DBObject query = criteria == null ? new BasicDBObject() : BasicDBObject.parse(criteria);
+        DBObject query = criteria == null ? new BasicDBObject() : BasicDBObject.parse(criteria);
+        KeysetCheckpoint keysetCheckpoint = null;
+        if (keyField != null) {
+            if (sort != null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, sort, "sort");
+            }
+            rowNumber = 0;
+            lastKeyValue = null;
+            if (checkpoint instanceof KeysetCheckpoint) {
+                keysetCheckpoint = (KeysetCheckpoint) checkpoint;
+                rowNumber = keysetCheckpoint.getRowNumber();
+                lastKeyValue = keysetCheckpoint.getKeyValues()[0];
+                final DBObject afterLastKey = new BasicDBObject(keyField, new BasicDBObject("$gt", lastKeyValue));
+                query = query.keySet().isEmpty() ? afterLastKey :
+                        new BasicDBObject("$and", Arrays.asList(query, afterLastKey));
+            }
+        }
         cursor = projection == null ? jacksonCollection.find(query) : jacksonCollection.find(query, BasicDBObject.parse(projection));
 
         if (limit != 0) {
-            cursor.limit(limit);
+            cursor.limit(keysetCheckpoint != null && limit > rowNumber ? limit - rowNumber : limit);
         }
         if (sort != null) {
             cursor.sort(BasicDBObject.parse(sort));
+        } else if (keyField != null) {
+            cursor.sort(new BasicDBObject(keyField, 1));
         }
-        if (checkpoint != null) {
+        if (checkpoint instanceof Integer) {
             cursor.skip((Integer) checkpoint);
-        } else if (skip > 0) {
+        } else if (checkpoint == null && skip > 0) {
             cursor.skip(skip);
         }
         if (batchSize != 0) {
@@ -126,12 +177,23 @@ public class MongoItemReader extends MongoItemReaderWriterBase implements ItemRe
 
     @Override
     public Object readItem() throws Exception {
+        if (keyField != null && limit > 0 && rowNumber >= limit) {
+            return null;
+        }
+        final long startTime = metricsStartTime();
         if (cursor.hasNext()) {
             final Object readValue = cursor.next();
+            if (keyField != null) {
+                lastKeyValue = cursor.getCursor().curr().get(keyField);
+                if (lastKeyValue == null) {
+                    throw SupportMessages.MESSAGES.missingIdValue(keyField, readValue);
+                }
+                rowNumber++;
+            }
             if (!skipBeanValidation) {
                 ItemReaderWriterBase.validate(readValue);
             }
-            return readValue;
+            return itemRead(startTime, readValue);
         }
         return null;
     }
@@ -142,10 +204,22 @@ public class MongoItemReader extends MongoItemReaderWriterBase implements ItemRe
             cursor.close();
             cursor = null;
         }
+        closeMetrics();
     }
 
+    /**
+     * Gets the checkpoint info of this reader. If {@link #keyField} is specified, the checkpoint info is a
+     * {@link KeysetCheckpoint} containing the number of documents read and the key of the last document read.
+     * Otherwise, it is the number of documents read from the cursor.
+     *
+     * @return the checkpoint info of this reader
+     * @throws Exception if error occurs
+     */
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (keyField != null) {
+            return lastKeyValue == null ? null : new KeysetCheckpoint(rowNumber, new Object[]{lastKeyValue});
+        }
         return cursor.numSeen() - 1;
     }
 }
@@ -12,12 +12,30 @@ package org.jberet.support.io;
 
 import java.io.Serializable;
 import java.util.List;
+import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemWriter;
 import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
 import javax.inject.Named;
 
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteRequestBuilder;
+import com.mongodb.BulkWriteResult;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.WriteConcern;
+import org.jberet.support._private.SupportLogger;
+import org.jberet.support._private.SupportMessages;
+
 /**
  * An implementation of {@code javax.batch.api.chunk.ItemWriter} that writes to a collection in a MongoDB database.
+ * <p>
+ * By default, all data items in a chunk are inserted with a single insert operation. If batch property
+ * {@link #bulkOperation} is specified, data items are written with MongoDB bulk write API, which can insert, upsert or
+ * replace documents, in ordered or unordered mode (see {@link #unordered}).
  *
  * @see     MongoItemReaderWriterBase
  * @see     MongoItemReader
@@ -26,22 +44,160 @@ import javax.inject.Named;
 @Named
 @Dependent
 public class MongoItemWriter extends MongoItemReaderWriterBase implements ItemWriter {
+    /**
+     * The operation to write each data item with MongoDB bulk write API. Optional property, and if not specified,
+     * data items are inserted without bulk write API. Valid values are:
+     * <p>
+     * <ul>
+     * <li>{@code insert}: inserts each data item as a new document;
+     * <li>{@code upsert}: replaces the document whose {@link #idField} value is equal to that of the data item, or
+     * inserts the data item if no such document exists. Data items without {@link #idField} value are inserted;
+     * <li>{@code replace}: replaces the document whose {@link #idField} value is equal to that of the data item, or
+     * does nothing if no such document exists. Data items without {@link #idField} value cause an exception.
+     * </ul>
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String bulkOperation;
+
+    /**
+     * Whether to execute bulk write in unordered mode. Optional property, and defaults to false (ordered mode). Only
+     * used when {@link #bulkOperation} is specified.
+     * <p>
+     * In ordered mode, the server writes data items in order and stops at the first failed item, and any failure
+     * causes the chunk to fail. In unordered mode, the server may write data items in parallel and continues past
+     * failed items (e.g., duplicate key errors), and each failed item is passed to {@link #onWriteError(Object, BulkWriteError)}
+     * without failing the chunk.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean unordered;
+
+    /**
+     * The document field to match data items with existing documents, for {@code upsert} and {@code replace}
+     * {@link #bulkOperation}. Optional property, and defaults to {@code _id}. If another field is specified, it should
+     * be backed by a unique index.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String idField;
+
+    /**
+     * The write concern of bulk write, as the name of a predefined {@code com.mongodb.WriteConcern} constant, e.g.,
+     * {@code MAJORITY}, {@code W1}, {@code ACKNOWLEDGED}, {@code UNACKNOWLEDGED}. Optional property, and defaults to
+     * the write concern of the collection. Only used when {@link #bulkOperation} is specified. Any write concern error
+     * causes the chunk to fail.
+     *
+     * @see "com.mongodb.WriteConcern#valueOf(java.lang.String)"
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String writeConcern;
+
+    private WriteConcern writeConcernInstance;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         super.init();
+        if (bulkOperation != null) {
+            if (!bulkOperation.equals("insert") && !bulkOperation.equals("upsert") && !bulkOperation.equals("replace")) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, bulkOperation, "bulkOperation");
+            }
+            if (idField == null) {
+                idField = "_id";
+            }
+            if (writeConcern != null) {
+                writeConcernInstance = WriteConcern.valueOf(writeConcern.trim());
+                if (writeConcernInstance == null) {
+                    throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, writeConcern, "writeConcern");
+                }
+            }
+        }
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        jacksonCollection.insert(items);
+        final long startTime = metricsStartTime();
+        if (bulkOperation == null) {
+            jacksonCollection.insert(items);
+        } else {
+            bulkWrite(items);
+        }
+        itemsWritten(startTime, items.size());
     }
 
     @Override
     public void close() throws Exception {
+        closeMetrics();
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
         return null;
     }
+
+    /**
+     * Handles a data item that failed to be written in unordered bulk write. The default implementation logs the
+     * failure. Subclass may override this method to handle failed data items differently, for example, by saving them
+     * elsewhere for later processing, or by throwing an exception to fail the chunk.
+     *
+     * @param item  the data item that failed to be written
+     * @param error the write error of the data item
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected void onWriteError(final Object item, final BulkWriteError error) throws Exception {
+        SupportLogger.LOGGER.failToWriteItem(error.getIndex(), error.getCode(), error.getMessage(), item);
+    }
+
+    private void bulkWrite(final List<Object> items) throws Exception {
+        final DBCollection dbCollection = jacksonCollection.getDbCollection();
+        final BulkWriteOperation bulk = unordered ? dbCollection.initializeUnorderedBulkOperation() :
+                dbCollection.initializeOrderedBulkOperation();
+        final boolean insert = bulkOperation.equals("insert");
+        final boolean upsert = bulkOperation.equals("upsert");
+
+        for (final Object item : items) {
+            final DBObject doc = jacksonCollection.convertToDbObject(item);
+            final Object id = insert ? null : doc.get(idField);
+            if (id == null) {
+                if (insert || upsert) {
+                    bulk.insert(doc);
+                } else {
+                    throw SupportMessages.MESSAGES.missingIdValue(idField, item);
+                }
+            } else {
+                final BulkWriteRequestBuilder request = bulk.find(new BasicDBObject(idField, id));
+                if (upsert) {
+                    request.upsert().replaceOne(doc);
+                } else {
+                    request.replaceOne(doc);
+                }
+            }
+        }
+
+        try {
+            final BulkWriteResult result = writeConcernInstance == null ? bulk.execute() : bulk.execute(writeConcernInstance);
+            if (result.isAcknowledged()) {
+                SupportLogger.LOGGER.tracef("Bulk write result: inserted %s, matched %s, upserted %s%n",
+                        result.getInsertedCount(), result.getMatchedCount(), result.getUpserts().size());
+            }
+        } catch (final BulkWriteException e) {
+            if (!unordered || e.getWriteConcernError() != null) {
+                throw e;
+            }
+            for (final BulkWriteError error : e.getWriteErrors()) {
+                onWriteError(items.get(error.getIndex()), error);
+            }
+        }
+    }
 }
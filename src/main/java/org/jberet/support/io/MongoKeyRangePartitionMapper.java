@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.batch.api.BatchProperty;
+import javax.batch.api.partition.PartitionMapper;
+import javax.batch.api.partition.PartitionPlan;
+import javax.batch.api.partition.PartitionPlanImpl;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.Cursor;
+import com.mongodb.DBObject;
+
+/**
+ * An implementation of {@code javax.batch.api.partition.PartitionMapper} that divides the documents of a MongoDB
+ * collection into key ranges of about the same number of documents, one for each partition, so that each partition
+ * of a {@link MongoItemReader} step can read a disjoint slice of the collection in parallel.
+ * <p>
+ * The key range boundaries are computed by the server with {@code $bucketAuto} aggregation stage (MongoDB 3.4 or
+ * later) on the {@link #keyField}. The query criteria of each partition, which combines {@link #criteria} with its
+ * key range, is available as partition property {@code criteria}, and can be passed to {@link MongoItemReader}, for
+ * example:
+ * <p>
+ * <pre>
+ * &lt;step id="step1"&gt;
+ *     &lt;chunk&gt;
+ *         &lt;reader ref="mongoItemReader"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="criteria" value="#{partitionPlan['criteria']}"/&gt;
+ *                 &lt;property name="keyField" value="_id"/&gt;
+ *                 ...
+ *             &lt;/properties&gt;
+ *         &lt;/reader&gt;
+ *         ...
+ *     &lt;/chunk&gt;
+ *     &lt;partition&gt;
+ *         &lt;mapper ref="mongoKeyRangePartitionMapper"&gt;
+ *             &lt;properties&gt;
+ *                 &lt;property name="collection" value="movies"/&gt;
+ *                 &lt;property name="partitionCount" value="4"/&gt;
+ *                 ...
+ *             &lt;/properties&gt;
+ *         &lt;/mapper&gt;
+ *     &lt;/partition&gt;
+ * &lt;/step&gt;
+ * </pre>
+ * MongoDB connection is configured with the same properties as {@link MongoItemReader}. {@link #keyField} should
+ * have a value in all documents, since documents without a value are not included in any bounded key range.
+ *
+ * @see MongoItemReader#keyField
+ * @since 2.0.0
+ */
+@Named
+@Dependent
+public class MongoKeyRangePartitionMapper extends MongoItemReaderWriterBase implements PartitionMapper {
+    /**
+     * Partition property key for the query criteria of the partition.
+     */
+    public static final String CRITERIA_KEY = "criteria";
+
+    /**
+     * The field to divide into key ranges. It should be an indexed field. Optional property, and defaults to
+     * {@code _id}.
+     */
+    @Inject
+    @BatchProperty
+    protected String keyField;
+
+    /**
+     * Query criteria to select the documents to divide, as a JSON string. Optional property, and defaults to null
+     * (all documents in the collection). It is also included in the query criteria of each partition.
+     *
+     * @see MongoItemReader#criteria
+     */
+    @Inject
+    @BatchProperty
+    protected String criteria;
+
+    /**
+     * Number of partitions. Optional property, and defaults to the number of available processors. The actual number
+     * of partitions may be less for collections with few documents or distinct key values.
+     */
+    @Inject
+    @BatchProperty
+    protected int partitionCount;
+
+    /**
+     * Maximum number of threads to run partitions concurrently. Optional property, and defaults to the number of
+     * partitions.
+     */
+    @Inject
+    @BatchProperty
+    protected int threads;
+
+    @Override
+    public PartitionPlan mapPartitions() throws Exception {
+        if (beanType == null) {
+            beanType = Map.class;
+        }
+        init();
+        if (keyField == null) {
+            keyField = "_id";
+        }
+        final int buckets = partitionCount > 0 ? partitionCount : Runtime.getRuntime().availableProcessors();
+        final BasicDBObject match = criteria == null ? null : BasicDBObject.parse(criteria);
+
+        final List<DBObject> pipeline = new ArrayList<DBObject>();
+        if (match != null) {
+            pipeline.add(new BasicDBObject("$match", match));
+        }
+        pipeline.add(new BasicDBObject("$bucketAuto",
+                new BasicDBObject("groupBy", "$" + keyField).append("buckets", buckets)));
+
+        // the lower bound of each bucket except the first one, which is also the upper bound of the previous bucket
+        final List<Object> bounds = new ArrayList<Object>();
+        final Cursor cursor = jacksonCollection.getDbCollection().aggregate(pipeline,
+                AggregationOptions.builder().allowDiskUse(true).build());
+        try {
+            boolean first = true;
+            while (cursor.hasNext()) {
+                final DBObject bucketId = (DBObject) cursor.next().get("_id");
+                if (first) {
+                    first = false;
+                } else {
+                    bounds.add(bucketId.get("min"));
+                }
+            }
+        } finally {
+            cursor.close();
+        }
+
+        final int count = bounds.size() + 1;
+        final Properties[] partitionProperties = new Properties[count];
+        for (int i = 0; i < count; i++) {
+            final BasicDBObject range = new BasicDBObject();
+            if (i > 0) {
+                range.append("$gte", bounds.get(i - 1));
+            }
+            if (i < count - 1) {
+                range.append("$lt", bounds.get(i));
+            }
+            final BasicDBObject keyRange = range.isEmpty() ? null : new BasicDBObject(keyField, range);
+            final BasicDBObject partitionCriteria;
+            if (match == null) {
+                partitionCriteria = keyRange == null ? new BasicDBObject() : keyRange;
+            } else if (keyRange == null) {
+                partitionCriteria = match;
+            } else {
+                partitionCriteria = new BasicDBObject("$and", Arrays.asList(match, keyRange));
+            }
+            final Properties props = new Properties();
+            props.setProperty(CRITERIA_KEY, partitionCriteria.toJson());
+            partitionProperties[i] = props;
+        }
+
+        final PartitionPlanImpl partitionPlan = new PartitionPlanImpl();
+        partitionPlan.setPartitions(count);
+        partitionPlan.setThreads(threads > 0 ? threads : count);
+        partitionPlan.setPartitionProperties(partitionProperties);
+        return partitionPlan;
+    }
+}
@@ -10,18 +10,28 @@
 
 package org.jberet.support.io;
 
+import java.io.InputStream;
 import java.io.Serializable;
+import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Future;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.ws.rs.HttpMethod;
-import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jberet.support._private.SupportMessages;
 
 /**
@@ -48,6 +58,25 @@ import org.jberet.support._private.SupportMessages;
  *   ...
  * &lt;chunk&gt;
  * </pre>
+ * <p>
+ * Besides offset and limit query parameters, pages can also be requested by following the next link or the next
+ * cursor in each response (see {@link #pagination}), for example, a REST resource whose responses look like
+ * {@code {"data": [...], "paging": {"next": "dXNlcjox"}}}:
+ * <pre>
+ * &lt;reader ref="restItemReader"&gt;
+ *   &lt;properties&gt;
+ *     &lt;property name="restUrl" value="http://localhost:8080/appName/rest-api/movies"/&gt;
+ *     &lt;property name="pagination" value="cursor"/&gt;
+ *     &lt;property name="itemsPointer" value="/data"/&gt;
+ *     &lt;property name="nextPointer" value="/paging/next"/&gt;
+ *     &lt;property name="limit" value="100"/&gt;
+ *     &lt;property name="prefetchPages" value="1"/&gt;
+ *     &lt;property name="beanType" value="org.jberet.samples.wildfly.common.Movie"/&gt;
+ *   &lt;/properties&gt;
+ * &lt;/reader&gt;
+ * </pre>
+ * With {@link #prefetchPages}, the following pages are requested asynchronously with
+ * {@code javax.ws.rs.client.AsyncInvoker} while the current page is being read.
  *
  * @see RestItemWriter
  * @see RestItemReaderWriterBase
@@ -77,6 +106,13 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
      */
     public static final String DEFAULT_LIMIT = "10";
 
+    /**
+     * Default key for cursor query parameter.
+     *
+     * @since 2.0.0
+     */
+    public static final String DEFAULT_CURSOR_KEY = "cursor";
+
     /**
      * Configures the key of the query parameter that specifies the starting
      * position to read in the target REST resource. For example, some REST
@@ -130,6 +166,91 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
     @BatchProperty
     protected Class beanType;
 
+    /**
+     * How to request the following pages. Optional property, and valid values are:
+     * <ul>
+     * <li>{@code offset}: the default. Each page is requested with {@link #offset} and {@link #limit} query
+     * parameters, and the offset of the next page is the position after the last item read;
+     * <li>{@code link}: the first page is requested from {@link #restUrl} with {@link #limit} query parameter, and
+     * each following page is requested from the next link in the previous response. The next link is taken from
+     * the response header {@link #nextHeader}, or from the response body at {@link #nextPointer}, or if neither is
+     * specified, from the {@code Link} response header with relation {@code next}. Relative links are resolved
+     * against the URI of the previous page;
+     * <li>{@code cursor}: the first page is requested from {@link #restUrl} with {@link #limit} query parameter,
+     * and each following page is requested with the addition of {@link #cursorKey} query parameter, whose value is
+     * the next cursor taken from the response header {@link #nextHeader}, or from the response body at
+     * {@link #nextPointer}.
+     * </ul>
+     * With {@code link} and {@code cursor}, reading ends when a response has no next link or cursor, and the
+     * checkpoint is a {@link RestPageCheckpoint}.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String pagination;
+
+    /**
+     * Name of the response header containing the next link or cursor, for {@code link} or {@code cursor}
+     * {@link #pagination}. Optional property.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String nextHeader;
+
+    /**
+     * JSON Pointer to the next link or cursor in the JSON response body, e.g., {@code /paging/next}, for
+     * {@code link} or {@code cursor} {@link #pagination}. Optional property, and if specified,
+     * {@link #itemsPointer} must also be specified.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String nextPointer;
+
+    /**
+     * JSON Pointer to the array of items in the JSON response body, e.g., {@code /data}. Optional property, and if
+     * not specified, the whole response body is the array of items. If specified, the response body is parsed with
+     * Jackson, and the items are converted to {@link #entityType}.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String itemsPointer;
+
+    /**
+     * Configures the key of the query parameter that specifies the next cursor, for {@code cursor}
+     * {@link #pagination}. Optional property, and if not set, the default key {@value #DEFAULT_CURSOR_KEY} is used.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected String cursorKey;
+
+    /**
+     * Number of pages to request ahead asynchronously, while the current page is being read. Optional property,
+     * and defaults to 0 (each page is requested when all items of the previous page have been read).
+     * <p>
+     * With {@code offset} {@link #pagination}, up to this number of following pages are requested ahead, assuming
+     * each page has {@link #limit} items. A prefetched page whose offset turns out to be different from the
+     * position to read, e.g., because the REST resource returned fewer items, is discarded. With {@code link} and
+     * {@code cursor} {@link #pagination}, the next page can only be requested after the current page is received,
+     * and so at most 1 page is requested ahead.
+     * <p>
+     * This property can only be used with {@code GET} {@link #httpMethod}, since requesting pages ahead with
+     * {@code DELETE} would delete records that may never be read, e.g., when the job execution fails or stops.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int prefetchPages;
+
     /**
      * The class of the REST response message entity, and is a array of collection
      * type whose component type is {@link #beanType}. For example,
@@ -153,6 +274,36 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
      */
     protected List<Object> recordsBuffer = new ArrayList<Object>();
 
+    /**
+     * Pages requested ahead asynchronously, in the order of reading.
+     */
+    private final ArrayDeque<PendingPage> pendingPages = new ArrayDeque<PendingPage>();
+
+    /**
+     * URI of the current page, for {@code link} and {@code cursor} {@link #pagination}.
+     */
+    private URI pageUri;
+
+    /**
+     * Number of items already read in the current page.
+     */
+    private int pageOffset;
+
+    /**
+     * URI of the next page, for {@code link} and {@code cursor} {@link #pagination}, or null if there is no next page.
+     */
+    private URI nextPageUri;
+
+    /**
+     * Number of items to skip in the next page received, when restarting from a {@link RestPageCheckpoint}.
+     */
+    private int itemsToSkip;
+
+    private boolean offsetPagination;
+    private boolean linkPagination;
+    private int limitValue;
+    private ObjectMapper objectMapper;
+
     /**
      * During the reader opening, the REST client is instantiated, and
      * {@code checkpoint}, if any, is used to position the reader properly.
@@ -172,6 +323,10 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
                 throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, httpMethod, "httpMethod");
             }
         }
+        if (prefetchPages > 0 && !HttpMethod.GET.equals(httpMethod)) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(
+                    null, String.valueOf(prefetchPages), "prefetchPages");
+        }
 
         if (offsetKey == null) {
             offsetKey = DEFAULT_OFFSET_KEY;
@@ -180,12 +335,6 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
             offset = DEFAULT_OFFSET;
         }
 
-        if (checkpoint != null) {
-            readerPosition = (Integer) checkpoint;
-        } else {
-            readerPosition = Integer.parseInt(offset) - 1;
-        }
-
         if (limitKey == null) {
             limitKey = DEFAULT_LIMIT_KEY;
         }
@@ -193,6 +342,43 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
             limit = DEFAULT_LIMIT;
         }
 
+        if (pagination == null || pagination.equals("offset")) {
+            offsetPagination = true;
+            if (prefetchPages > 0) {
+                limitValue = Integer.parseInt(limit);
+            }
+        } else if (pagination.equals("link") || pagination.equals("cursor")) {
+            linkPagination = pagination.equals("link");
+            if (!linkPagination && nextHeader == null && nextPointer == null) {
+                throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "nextHeader");
+            }
+            if (cursorKey == null) {
+                cursorKey = DEFAULT_CURSOR_KEY;
+            }
+            nextPageUri = UriBuilder.fromUri(restUrl).queryParam(limitKey, limit).build();
+        } else {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, pagination, "pagination");
+        }
+        if (nextPointer != null && itemsPointer == null) {
+            throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "itemsPointer");
+        }
+        if (itemsPointer != null) {
+            objectMapper = (ObjectMapper) new MappingJsonFactory().getCodec();
+        }
+
+        if (checkpoint instanceof RestPageCheckpoint) {
+            final RestPageCheckpoint pageCheckpoint = (RestPageCheckpoint) checkpoint;
+            readerPosition = pageCheckpoint.getReaderPosition();
+            if (pageCheckpoint.getPageUri() != null) {
+                nextPageUri = URI.create(pageCheckpoint.getPageUri());
+                itemsToSkip = pageCheckpoint.getPageOffset();
+            }
+        } else if (checkpoint != null) {
+            readerPosition = (Integer) checkpoint;
+        } else {
+            readerPosition = Integer.parseInt(offset) - 1;
+        }
+
         if (beanType == null) {
             entityType = Object[].class;
         } else {
@@ -201,13 +387,27 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
     }
 
     /**
-     * Returns reader checkpoint info (int number), which is the last successfully read position.
+     * Returns reader checkpoint info (int number), which is the last successfully read position. With {@code link}
+     * and {@code cursor} {@link #pagination}, returns a {@link RestPageCheckpoint} instead.
      *
-     * @return reader checkpoint info as int
+     * @return reader checkpoint info as int, or {@link RestPageCheckpoint}
      */
     @Override
     public Serializable checkpointInfo() {
-        return readerPosition;
+        if (offsetPagination) {
+            return readerPosition;
+        }
+        return new RestPageCheckpoint(readerPosition, pageUri == null ? null : pageUri.toString(), pageOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method returns {@link #prefetchPages} + 1, for the current page and the pages requested ahead.
+     */
+    @Override
+    protected int getConnectionPoolSize() {
+        return Math.max(prefetchPages, 0) + 1;
     }
 
     /**
@@ -229,17 +429,12 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
         if (size > 0) {
             // take 1 item from the end of the buffer
             // items were added to the buffer in the reverse order, so the end is the oldest item
+            pageOffset++;
             return recordsBuffer.remove(size - 1);
         }
 
-        final WebTarget target = client.target(restUrl)
-                .queryParam(offsetKey, readerPosition)
-                .queryParam(limitKey, limit);
-
-        final Object[] recordsArray = HttpMethod.GET.equals(httpMethod) ?
-                (Object[]) target.request().get(entityType) :
-                (Object[]) target.request().delete(entityType);
-        if (recordsArray.length == 0) {
+        final Object[] recordsArray = readPage();
+        if (recordsArray == null || recordsArray.length == 0) {
             return null;
         }
 
@@ -247,6 +442,7 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
         for (int i = recordsArray.length - 1; i > 0; i--) {
             recordsBuffer.add(recordsArray[i]);
         }
+        pageOffset++;
         return recordsArray[0];
     }
 
@@ -255,7 +451,172 @@ public class RestItemReader extends RestItemReaderWriterBase implements ItemRead
      */
     @Override
     public void close() {
+        PendingPage page;
+        while ((page = pendingPages.poll()) != null) {
+            page.discard();
+        }
         super.close();
         recordsBuffer.clear();
     }
+
+    /**
+     * Reads the next page to read, skipping empty pages that have a next link or cursor, and requests the following
+     * pages ahead if {@link #prefetchPages} is positive.
+     *
+     * @return items in the page, or null if there is no more page
+     * @throws Exception if error occurs
+     */
+    private Object[] readPage() throws Exception {
+        final Class<?> arrayType = entityType;
+        Object[] recordsArray;
+        do {
+            final URI uri;
+            if (offsetPagination) {
+                uri = UriBuilder.fromUri(restUrl)
+                        .queryParam(offsetKey, readerPosition)
+                        .queryParam(limitKey, limit).build();
+            } else if (nextPageUri != null) {
+                uri = nextPageUri;
+            } else {
+                return null;
+            }
+
+            final Response response = takeResponse(uri);
+            final String next;
+            try {
+                final Response.Status.Family statusFamily = response.getStatusInfo().getFamily();
+                if (statusFamily != Response.Status.Family.SUCCESSFUL) {
+                    throw SupportMessages.MESSAGES.restApiFailure(response.getStatus(),
+                            response.getStatusInfo().getReasonPhrase(), response.readEntity(String.class));
+                }
+                if (itemsPointer == null) {
+                    recordsArray = (Object[]) response.readEntity(arrayType);
+                    next = offsetPagination ? null : getNext(response, null);
+                } else {
+                    final JsonNode body = objectMapper.readTree(response.readEntity(InputStream.class));
+                    final JsonNode items = body.at(itemsPointer);
+                    recordsArray = items.isMissingNode() || items.isNull() ? new Object[0] :
+                            (Object[]) objectMapper.treeToValue(items, arrayType);
+                    next = offsetPagination ? null : getNext(response, body);
+                }
+            } finally {
+                response.close();
+            }
+
+            pageOffset = 0;
+            if (!offsetPagination) {
+                pageUri = uri;
+                nextPageUri = getNextPageUri(uri, next);
+                if (itemsToSkip > 0) {
+                    pageOffset = Math.min(itemsToSkip, recordsArray.length);
+                    recordsArray = Arrays.copyOfRange(recordsArray, pageOffset, recordsArray.length);
+                    itemsToSkip = 0;
+                }
+            }
+            prefetch(recordsArray.length == 0);
+        } while (recordsArray.length == 0 && !offsetPagination && nextPageUri != null);
+        return recordsArray;
+    }
+
+    /**
+     * Gets the response for the page {@code uri}, either from the page requested ahead, or by requesting it now.
+     * Pages requested ahead before {@code uri} are no longer needed and are discarded.
+     */
+    private Response takeResponse(final URI uri) throws Exception {
+        PendingPage page;
+        while ((page = pendingPages.poll()) != null) {
+            if (page.uri.equals(uri)) {
+                return page.response.get();
+            }
+            page.discard();
+        }
+        return client.target(uri).request().method(httpMethod);
+    }
+
+    /**
+     * Requests the following pages ahead asynchronously, up to {@link #prefetchPages}.
+     *
+     * @param lastPage whether the page just read is empty, and so there is no following page to request
+     */
+    private void prefetch(final boolean lastPage) {
+        if (prefetchPages <= 0) {
+            return;
+        }
+        if (offsetPagination) {
+            if (lastPage) {
+                return;
+            }
+            int nextOffset = pendingPages.isEmpty() ? readerPosition + limitValue :
+                    pendingPages.peekLast().offset + limitValue;
+            while (pendingPages.size() < prefetchPages) {
+                requestAhead(UriBuilder.fromUri(restUrl)
+                        .queryParam(offsetKey, nextOffset)
+                        .queryParam(limitKey, limit).build(), nextOffset);
+                nextOffset += limitValue;
+            }
+        } else if (nextPageUri != null && pendingPages.isEmpty()) {
+            requestAhead(nextPageUri, -1);
+        }
+    }
+
+    private void requestAhead(final URI uri, final int offset) {
+        pendingPages.add(new PendingPage(uri, offset, client.target(uri).request().async().method(httpMethod)));
+    }
+
+    /**
+     * Gets the next link or cursor from the response header or body.
+     *
+     * @param response the response of the current page
+     * @param body the parsed response body, or null if not parsed
+     * @return the next link or cursor, or null if there is no next page
+     */
+    private String getNext(final Response response, final JsonNode body) {
+        if (nextHeader != null) {
+            return response.getHeaderString(nextHeader);
+        }
+        if (nextPointer != null) {
+            final JsonNode next = body.at(nextPointer);
+            return next.isMissingNode() || next.isNull() ? null : next.asText();
+        }
+        final Link link = response.getLink("next");
+        return link == null ? null : link.getUri().toString();
+    }
+
+    private URI getNextPageUri(final URI uri, final String next) {
+        if (next == null || next.isEmpty()) {
+            return null;
+        }
+        final URI nextUri = linkPagination ? uri.resolve(next) :
+                UriBuilder.fromUri(restUrl).queryParam(limitKey, limit).queryParam(cursorKey, next).build();
+        // guard against REST resources that link the last page to itself
+        return nextUri.equals(uri) ? null : nextUri;
+    }
+
+    /**
+     * A page requested ahead asynchronously.
+     */
+    private static final class PendingPage {
+        private final URI uri;
+        private final int offset;
+        private final Future<Response> response;
+
+        private PendingPage(final URI uri, final int offset, final Future<Response> response) {
+            this.uri = uri;
+            this.offset = offset;
+            this.response = response;
+        }
+
+        /**
+         * Cancels the request, or closes the response if already received.
+         */
+        private void discard() {
+            if (!response.cancel(true)) {
+                try {
+                    response.get().close();
+                } catch (final Exception e) {
+                    // the page is no longer needed
+                }
+            }
+        }
+    }
 }
@@ -11,6 +11,7 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.net.URI;
 import javax.batch.api.BatchProperty;
 import javax.inject.Inject;
@@ -75,7 +76,7 @@ public abstract class RestItemReaderWriterBase {
      * @throws Exception if error occurs
      */
     public void open(final Serializable checkpoint) throws Exception {
-        client = ClientBuilder.newClient();
+        client = newClient(getConnectionPoolSize());
 
         if (restUrl == null) {
             throw SupportMessages.MESSAGES.invalidReaderWriterProperty(null, null, "restUrl");
@@ -91,4 +92,43 @@ public abstract class RestItemReaderWriterBase {
             client = null;
         }
     }
+
+    /**
+     * Gets the number of concurrent connections the REST client should support, which is used to size the
+     * connection pool of the client in {@link #open(Serializable)}. The default implementation returns 1, and
+     * subclasses sending concurrent asynchronous requests should override it.
+     *
+     * @return the number of concurrent connections needed
+     *
+     * @since 2.0.0
+     */
+    protected int getConnectionPoolSize() {
+        return 1;
+    }
+
+    /**
+     * Creates the REST client with a connection pool of {@code connectionPoolSize}. The default client of some
+     * JAX-RS implementations, e.g., RESTEasy, can only use 1 connection at a time, and so the pool size is set with
+     * the implementation-specific {@code connectionPoolSize(int)} method of the {@code ClientBuilder}, if present.
+     * Other JAX-RS implementations are used with their default configuration.
+     *
+     * @param connectionPoolSize the number of concurrent connections needed
+     * @return the REST client
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected Client newClient(final int connectionPoolSize) throws Exception {
+        final ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+        if (connectionPoolSize > 1) {
+            final Method poolSizeMethod;
+            try {
+                poolSizeMethod = clientBuilder.getClass().getMethod("connectionPoolSize", int.class);
+            } catch (final NoSuchMethodException e) {
+                return clientBuilder.build();
+            }
+            poolSizeMethod.invoke(clientBuilder, connectionPoolSize);
+        }
+        return clientBuilder.build();
+    }
 }
@@ -11,8 +11,11 @@
 package org.jberet.support.io;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemWriter;
 import javax.enterprise.context.Dependent;
@@ -24,6 +27,7 @@ import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
+import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
 /**
@@ -40,6 +44,12 @@ import org.jberet.support._private.SupportMessages;
  *      &lt;/writer&gt;
  *  &lt;/chunk&gt;
  * </pre>
+ * <p>
+ * By default, all data items in a chunk are sent in one blocking request. If batch property {@link #subBatchSize} is
+ * positive, data items in a chunk are split into sub-batches, which are sent asynchronously with
+ * {@code javax.ws.rs.client.AsyncInvoker}, with at most {@link #maxInFlight} requests in flight at any time.
+ * Responses with status 429 (Too Many Requests) or 503 (Service Unavailable) can be retried with backoff (see
+ * {@link #maxRetries}).
  *
  * @see RestItemReader
  * @see RestItemReaderWriterBase
@@ -64,6 +74,57 @@ public class RestItemWriter extends RestItemReaderWriterBase implements ItemWrit
      */
     protected MediaType mediaTypeInstance;
 
+    /**
+     * Maximum number of data items to send in each request. Optional property, and defaults to 0 (all data items in
+     * a chunk are sent in one request). If positive, data items in a chunk are split into sub-batches of this size,
+     * and sent concurrently, up to {@link #maxInFlight}. After all sub-batches complete, each failed sub-batch is
+     * passed to {@link #onWriteError(List, int, Throwable)}, and the chunk fails if any sub-batch failed.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int subBatchSize;
+
+    /**
+     * Maximum number of sub-batch requests in flight, when {@link #subBatchSize} is positive. Optional property, and
+     * defaults to 1.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int maxInFlight;
+
+    /**
+     * Maximum number of times to retry a request whose response status is 429 (Too Many Requests) or
+     * 503 (Service Unavailable). Optional property, and defaults to 0 (no retry).
+     * <p>
+     * Before each retry, the writer waits for the number of seconds in {@code Retry-After} response header, if
+     * present, or else for {@link #retryDelay} milliseconds, doubled for each further retry.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected int maxRetries;
+
+    /**
+     * The delay in milliseconds before the first retry, when {@link #maxRetries} is positive. Optional property,
+     * and defaults to 1000.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected long retryDelay;
+
+    /**
+     * The {@code javax.ws.rs.client.WebTarget} for {@link #restUrl}, which is created in {@link #open(Serializable)}
+     * and reused for all chunks.
+     */
+    private WebTarget target;
+
     /**
      * During the writer opening, the REST client is instantiated, and
      * {@code checkpoint} is ignored.
@@ -87,24 +148,187 @@ public class RestItemWriter extends RestItemReaderWriterBase implements ItemWrit
         } else {
             mediaTypeInstance = MediaType.APPLICATION_JSON_TYPE;
         }
+        if (maxInFlight <= 0) {
+            maxInFlight = 1;
+        }
+        if (retryDelay <= 0) {
+            retryDelay = 1000;
+        }
+        target = client.target(restUrl);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method returns {@link #maxInFlight} when {@link #subBatchSize} is positive, so that all sub-batch
+     * requests in flight can be sent concurrently, and 1 otherwise.
+     */
+    @Override
+    protected int getConnectionPoolSize() {
+        return subBatchSize > 0 ? Math.max(maxInFlight, 1) : 1;
     }
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
-        final WebTarget target = client.target(restUrl);
+        if (subBatchSize > 0) {
+            writeSubBatches(items);
+            return;
+        }
         final Entity<List<Object>> entity = Entity.entity(items, mediaTypeInstance);
 
-        final Response response;
-        if (HttpMethod.POST.equals(httpMethod)) {
-            response = target.request().post(entity);
-        } else {
-            response = target.request().put(entity);
+        for (int attempt = 0; ; attempt++) {
+            final Response response;
+            if (HttpMethod.POST.equals(httpMethod)) {
+                response = target.request().post(entity);
+            } else {
+                response = target.request().put(entity);
+            }
+            if (attempt < maxRetries && isRetryable(response)) {
+                backoff(response, attempt);
+                continue;
+            }
+            try {
+                final Response.Status.Family statusFamily = response.getStatusInfo().getFamily();
+                if (statusFamily == Response.Status.Family.CLIENT_ERROR ||
+                        statusFamily == Response.Status.Family.SERVER_ERROR) {
+                    throw SupportMessages.MESSAGES.restApiFailure(response.getStatus(),
+                            response.getStatusInfo().getReasonPhrase(), response.getEntity());
+                }
+            } finally {
+                response.close();
+            }
+            break;
+        }
+    }
+
+    /**
+     * Handles a sub-batch of data items that failed to be sent, when {@link #subBatchSize} is positive. The default
+     * implementation logs the failure. Subclass may override this method to handle failed data items differently,
+     * for example, by saving them elsewhere for later processing. The chunk fails after all failed sub-batches are
+     * handled.
+     *
+     * @param items the data items in the failed sub-batch
+     * @param index the index of the first data item of the sub-batch in the current chunk
+     * @param error the cause of the failure
+     * @throws Exception if error occurs
+     *
+     * @since 2.0.0
+     */
+    protected void onWriteError(final List<Object> items, final int index, final Throwable error) throws Exception {
+        SupportLogger.LOGGER.failToWriteItems(error, items.size(), index);
+    }
+
+    /**
+     * Sends data items in sub-batches of {@link #subBatchSize} asynchronously, with at most {@link #maxInFlight}
+     * requests in flight, and waits for all sub-batches to complete.
+     *
+     * @param items data items to send
+     * @throws Exception if any sub-batch failed to be sent
+     */
+    private void writeSubBatches(final List<Object> items) throws Exception {
+        final ArrayDeque<SubBatch> inFlight = new ArrayDeque<SubBatch>();
+        int failed = 0;
+        Throwable firstFailure = null;
+
+        for (int i = 0, n = items.size(); i < n || !inFlight.isEmpty(); ) {
+            if (i < n && inFlight.size() < maxInFlight) {
+                final SubBatch subBatch = new SubBatch(items.subList(i, Math.min(i + subBatchSize, n)), i);
+                subBatch.send();
+                inFlight.add(subBatch);
+                i += subBatch.items.size();
+                continue;
+            }
+
+            final SubBatch subBatch = inFlight.poll();
+            final Throwable error = subBatch.await();
+            if (error != null) {
+                if (firstFailure == null) {
+                    firstFailure = error;
+                }
+                failed += subBatch.items.size();
+                onWriteError(subBatch.items, subBatch.index, error);
+            }
+        }
+        if (failed > 0) {
+            throw SupportMessages.MESSAGES.failToWriteItems(firstFailure, failed, items.size());
         }
-        final Response.Status.Family statusFamily = response.getStatusInfo().getFamily();
-        if (statusFamily == Response.Status.Family.CLIENT_ERROR ||
-                statusFamily == Response.Status.Family.SERVER_ERROR) {
-            throw SupportMessages.MESSAGES.restApiFailure(response.getStatus(),
-                    response.getStatusInfo().getReasonPhrase(), response.getEntity());
+    }
+
+    private static boolean isRetryable(final Response response) {
+        final int status = response.getStatus();
+        return status == 429 || status == Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+    }
+
+    /**
+     * Closes the retryable {@code response}, and waits before the next retry.
+     *
+     * @param response the response to retry
+     * @param attempt  the number of retries so far
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private void backoff(final Response response, final int attempt) throws InterruptedException {
+        long delay = retryDelay << Math.min(attempt, 20);
+        final String retryAfter = response.getHeaderString("Retry-After");
+        if (retryAfter != null) {
+            try {
+                delay = Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (final NumberFormatException e) {
+                // Retry-After as HTTP date is not supported, and the default delay is used
+            }
+        }
+        SupportLogger.LOGGER.debugf("Retrying REST request after %s ms, status: %s", delay, response.getStatus());
+        response.close();
+        Thread.sleep(delay);
+    }
+
+    /**
+     * A sub-batch of data items in the current chunk, and its request in flight.
+     */
+    private final class SubBatch {
+        private final List<Object> items;
+        private final int index;
+        private Future<Response> response;
+
+        private SubBatch(final List<Object> items, final int index) {
+            this.items = items;
+            this.index = index;
+        }
+
+        private void send() {
+            response = target.request().async().method(httpMethod, Entity.entity(items, mediaTypeInstance));
+        }
+
+        /**
+         * Waits for the response of this sub-batch, and retries it if necessary.
+         *
+         * @return the cause of failure, or null if this sub-batch is sent successfully
+         * @throws InterruptedException if interrupted while waiting
+         */
+        private Throwable await() throws InterruptedException {
+            for (int attempt = 0; ; attempt++) {
+                final Response r;
+                try {
+                    r = response.get();
+                } catch (final ExecutionException e) {
+                    return e.getCause();
+                }
+                if (attempt < maxRetries && isRetryable(r)) {
+                    backoff(r, attempt);
+                    send();
+                    continue;
+                }
+                try {
+                    final Response.Status.Family statusFamily = r.getStatusInfo().getFamily();
+                    if (statusFamily == Response.Status.Family.CLIENT_ERROR ||
+                            statusFamily == Response.Status.Family.SERVER_ERROR) {
+                        return SupportMessages.MESSAGES.restApiFailure(r.getStatus(),
+                                r.getStatusInfo().getReasonPhrase(), r.getEntity());
+                    }
+                    return null;
+                } finally {
+                    r.close();
+                }
+            }
         }
     }
 
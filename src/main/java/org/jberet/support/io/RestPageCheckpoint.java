@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.Serializable;
+
+/**
+ * Checkpoint data saved by {@link RestItemReader} with link or cursor {@link RestItemReader#pagination}. Since pages
+ * are not addressed by position, it records the URI of the current page and the number of items already read in that
+ * page, so that a restarted reader can request that page again and skip the items already read.
+ *
+ * @see RestItemReader#pagination
+ * @since 2.0.0
+ */
+public final class RestPageCheckpoint implements Serializable {
+    private static final long serialVersionUID = -2330764409876197563L;
+
+    /**
+     * The current reading position.
+     */
+    private final int readerPosition;
+
+    /**
+     * URI of the current page, or null if no page has been requested.
+     */
+    private final String pageUri;
+
+    /**
+     * Number of items already read in the current page.
+     */
+    private final int pageOffset;
+
+    public RestPageCheckpoint(final int readerPosition, final String pageUri, final int pageOffset) {
+        this.readerPosition = readerPosition;
+        this.pageUri = pageUri;
+        this.pageOffset = pageOffset;
+    }
+
+    public int getReaderPosition() {
+        return readerPosition;
+    }
+
+    public String getPageUri() {
+        return pageUri;
+    }
+
+    public int getPageOffset() {
+        return pageOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "RestPageCheckpoint{" +
+                "readerPosition=" + readerPosition +
+                ", pageUri='" + pageUri + '\'' +
+                ", pageOffset=" + pageOffset +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * An implementation of {@link ItemCodec} that encodes data items into, and decodes data items from, Jackson
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> content. Smile is a binary equivalent
+ * of JSON: it supports the same data model and Jackson annotations as {@link JsonItemCodec}, but is more compact and
+ * faster to parse, since numbers are not written as text and repeated property names are back-referenced.
+ *
+ * @see ItemCodec
+ * @see JsonItemCodec
+ * @since 2.0.0
+ */
+public class SmileItemCodec extends JsonItemCodec {
+    public SmileItemCodec() {
+        super(new ObjectMapper(new SmileFactory()));
+    }
+}
@@ -10,17 +10,21 @@
 
 package org.jberet.support.io;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import javax.batch.api.BatchProperty;
 import javax.batch.api.chunk.ItemReader;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 import javax.inject.Named;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.InputDecorator;
 import com.fasterxml.jackson.dataformat.xml.JacksonXmlModule;
 import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.jberet.support._private.SupportLogger;
 import org.jberet.support._private.SupportMessages;
 
@@ -87,28 +91,81 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
     @BatchProperty
     protected String xmlTextElementName;
 
+    /**
+     * Whether to save the byte offset of the current read position as part of the checkpoint data. Optional property,
+     * and defaults to {@code false}. When set to {@code true}, the checkpoint of this reader is a
+     * {@link ByteOffsetCheckpoint}, which contains the byte offset right after the last data item element, and the
+     * content of the {@link #resource} up to the start tag of the root element. Upon restart, this reader seeks
+     * directly to the saved byte offset, with the saved root element start tag as a synthetic wrapper, instead of
+     * parsing all data items before it.
+     * <p>
+     * Resuming from byte offset requires the {@link #resource} to be a local file (a file path, a {@code file:} URL,
+     * or a classpath resource residing in a directory), {@link #inputDecorator} not specified, and a StAX
+     * implementation that reports byte offsets (e.g., Aalto). Otherwise, this reader falls back to restarting from
+     * the saved row number.
+     *
+     * @since 2.0.0
+     */
+    @Inject
+    @BatchProperty
+    protected boolean checkpointByteOffset;
+
     private FromXmlParser fromXmlParser;
     private JsonToken token;
     private int rowNumber;
 
+    /**
+     * Content of {@link #resource} up to and including the start tag of the root element, to be saved as the prefix in
+     * {@link ByteOffsetCheckpoint}.
+     */
+    private String resumePrefix;
+
+    /**
+     * The difference between the byte offset in {@link #resource} and the byte offset reported by the StAX reader,
+     * which is non-zero when resuming from a {@link ByteOffsetCheckpoint}.
+     */
+    private long byteOffsetAdjustment;
+
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         if (end == 0) {
             end = Integer.MAX_VALUE;
         }
-        if (checkpoint != null) {
+        ByteOffsetCheckpoint offsetCheckpoint = null;
+        if (checkpoint instanceof ByteOffsetCheckpoint) {
+            offsetCheckpoint = (ByteOffsetCheckpoint) checkpoint;
+        } else if (checkpoint != null) {
             start = (Integer) checkpoint;
         }
         if (start > end) {
-            throw SupportMessages.MESSAGES.invalidStartPosition((Integer) checkpoint, start, end);
+            throw SupportMessages.MESSAGES.invalidStartPosition(start, start, end);
         }
         super.initXmlFactory();
         if (inputDecorator != null) {
             xmlFactory.setInputDecorator((InputDecorator) inputDecorator.getDeclaredConstructor().newInstance());
         }
 
-        fromXmlParser = (FromXmlParser) xmlFactory.createParser(getInputStream(resource, false));
+        InputStream inputStream = null;
+        if (offsetCheckpoint != null) {
+            inputStream = inputDecorator == null ? getInputStreamAt(resource, offsetCheckpoint) : null;
+            if (inputStream == null) {
+                start = offsetCheckpoint.getRowNumber();
+            } else {
+                rowNumber = offsetCheckpoint.getRowNumber();
+                resumePrefix = offsetCheckpoint.getPrefix();
+                byteOffsetAdjustment = offsetCheckpoint.getByteOffset() - offsetCheckpoint.getPrefixBytes().length;
+            }
+        }
+        if (inputStream == null) {
+            inputStream = getInputStream(resource, false);
+        }
+
+        fromXmlParser = (FromXmlParser) xmlFactory.createParser(countBytes(inputStream));
         SupportLogger.LOGGER.openingResource(resource, this.getClass());
+        if (checkpointByteOffset && inputDecorator == null && resumePrefix == null) {
+            resumePrefix = readRootElementPrefix();
+        }
         token = fromXmlParser.nextToken();
     }
 
@@ -117,6 +174,7 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
         if (rowNumber >= end) {
             return null;
         }
+        final long startTime = metricsStartTime();
         int nestedObjectLevel = 0;
         do {
             token = fromXmlParser.nextToken();
@@ -140,11 +198,17 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
         if (!skipBeanValidation) {
             ItemReaderWriterBase.validate(readValue);
         }
-        return readValue;
+        return itemRead(startTime, readValue);
     }
 
     @Override
     public Serializable checkpointInfo() throws Exception {
+        if (checkpointByteOffset && resumePrefix != null) {
+            final long byteOffset = getEndingByteOffset();
+            if (byteOffset >= 0) {
+                return new ByteOffsetCheckpoint(rowNumber, byteOffset + byteOffsetAdjustment, resumePrefix);
+            }
+        }
         return rowNumber;
     }
 
@@ -155,6 +219,7 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
             fromXmlParser.close();
             fromXmlParser = null;
         }
+        closeMetrics();
     }
 
     @Override
@@ -164,4 +229,35 @@ public class XmlItemReader extends XmlItemReaderWriterBase implements ItemReader
             xmlModule.setXMLTextElementName(xmlTextElementName);
         }
     }
+
+    /**
+     * Gets the byte offset right after the current StAX event. After a data item is read, the current event is the
+     * end tag of the data item element.
+     *
+     * @return the byte offset, or -1 if the StAX implementation does not report byte offsets
+     * @throws XMLStreamException if failed to get the location info from StAX reader
+     */
+    private long getEndingByteOffset() throws XMLStreamException {
+        final XMLStreamReader staxReader = fromXmlParser.getStaxReader();
+        if (staxReader instanceof XMLStreamReader2) {
+            return ((XMLStreamReader2) staxReader).getLocationInfo().getEndingByteOffset();
+        }
+        return -1;
+    }
+
+    /**
+     * Reads the content of {@link #resource} up to and including the start tag of the root element, which is the
+     * current StAX event right after the parser is created. The content typically includes XML declaration and the
+     * root element start tag with any namespace declarations.
+     *
+     * @return the raw content as {@code ISO-8859-1} string, or null if it is not available
+     * @throws Exception if failed to read the resource
+     */
+    private String readRootElementPrefix() throws Exception {
+        final long rootStartTagEnd = getEndingByteOffset();
+        if (rootStartTagEnd <= 0 || rootStartTagEnd > Integer.MAX_VALUE) {
+            return null;
+        }
+        return readPrefix(resource, (int) rootStartTagEnd);
+    }
 }
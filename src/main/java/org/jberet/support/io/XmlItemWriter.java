@@ -115,6 +115,7 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
 
     @Override
     public void open(final Serializable checkpoint) throws Exception {
+        openMetrics();
         SupportLogger.LOGGER.tracef("Open XmlItemWriter with checkpoint %s, which is ignored for XmlItemWriter.%n", checkpoint);
         super.initXmlFactory();
 
@@ -157,12 +158,14 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
 
     @Override
     public void writeItems(final List<Object> items) throws Exception {
+        final long startTime = metricsStartTime();
         for (final Object o : items) {
             staxWriter.writeCharacters(NEW_LINE);
             toXmlGenerator.writeObject(o);
 
         }
         toXmlGenerator.flush();
+        itemsWritten(startTime, items.size());
     }
 
     @Override
@@ -179,6 +182,7 @@ public class XmlItemWriter extends XmlItemReaderWriterBase implements ItemWriter
             toXmlGenerator.close();
             toXmlGenerator = null;
         }
+        closeMetrics();
     }
 
     @Override
@@ -12,6 +12,7 @@ package org.jberet.support.io;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
 import org.apache.activemq.artemis.api.core.Message;
 import org.apache.activemq.artemis.api.core.TransportConfiguration;
@@ -113,6 +114,20 @@ public class ArtemisReaderWriterTest {
                 ibmStockTradeExpected1_10, ibmStockTradeForbid1_10);
     }
 
+    @Test
+    public void readIBMStockTradeCsvWriteArtemisBatchReceive() throws Exception {
+        testWrite0(writerTestJobName, StockTrade.class, ExcelWriterTest.ibmStockTradeHeader, ExcelWriterTest.ibmStockTradeCellProcessors,
+                "1", "10");
+
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("consumerWindowSize", "4194304");
+        readerParams.setProperty("receiveBatchSize", "4");
+        readerParams.setProperty("acknowledgePerChunk", "true");
+        testRead0(readerTestJobName, StockTrade.class, "readIBMStockTradeCsvWriteArtemisBatchReceive.out",
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                ibmStockTradeExpected1_10, ibmStockTradeForbid1_10, readerParams);
+    }
+
     public static class ArtemisSendAcknowledgementHandler implements SendAcknowledgementHandler {
         @Override
         public void sendAcknowledged(final Message message) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+import javax.batch.operations.JobOperator;
+import javax.batch.runtime.BatchRuntime;
+import javax.batch.runtime.BatchStatus;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests reading a file resource in multiple partitions, each of which reads the byte range generated by
+ * {@link ByteRangePartitionMapper}.
+ */
+public final class ByteRangePartitionMapperTest {
+    private static final String jobName = "org.jberet.support.io.ByteRangePartitionTest";
+    private static final JobOperator jobOperator = BatchRuntime.getJobOperator();
+    private static final int movieCount = 100;
+
+    @Before
+    public void clearData() {
+        PartitionDataHolder.data.clear();
+    }
+
+    @Test
+    public void jsonItemReader() throws Exception {
+        runJob("jsonItemReader", JsonItemReaderTest.movieJson, 7);
+    }
+
+    @Test
+    public void csvItemReader() throws Exception {
+        runJob("csvItemReader", MovieTest.moviesCsv, 7);
+    }
+
+    @Test
+    public void jacksonCsvItemReader() throws Exception {
+        runJob("jacksonCsvItemReader", MovieTest.moviesCsv, 7);
+    }
+
+    @Test
+    public void beanIOItemReader() throws Exception {
+        final Properties jobParams = new Properties();
+        jobParams.setProperty("streamName", "movies");
+        jobParams.setProperty("streamMapping", "movie-beanio-mapping.xml");
+        runJob("beanIOItemReader", MovieTest.moviesCsv, 7, jobParams);
+    }
+
+    @Test
+    public void singlePartition() throws Exception {
+        runJob("jsonItemReader", JsonItemReaderTest.movieJson, 1);
+    }
+
+    private void runJob(final String reader, final String resource, final int partitionCount) throws Exception {
+        runJob(reader, resource, partitionCount, new Properties());
+    }
+
+    private void runJob(final String reader, final String resource, final int partitionCount,
+                        final Properties jobParams) throws Exception {
+        jobParams.setProperty("reader", reader);
+        jobParams.setProperty("resource", resource);
+        jobParams.setProperty("partitionCount", String.valueOf(partitionCount));
+        MockItemWriterTest.verifyJobExecution(jobOperator.start(jobName, jobParams), BatchStatus.COMPLETED);
+
+        // every data item is read by exactly one partition
+        Assert.assertEquals(movieCount, PartitionDataHolder.data.size());
+        final TreeSet<Integer> ranks = new TreeSet<Integer>();
+        for (final Object item : PartitionDataHolder.data) {
+            ranks.add(Integer.valueOf(String.valueOf(((Map) item).get("rank"))));
+        }
+        Assert.assertEquals(movieCount, ranks.size());
+        Assert.assertEquals(1, (int) ranks.first());
+        Assert.assertEquals(movieCount, (int) ranks.last());
+    }
+}
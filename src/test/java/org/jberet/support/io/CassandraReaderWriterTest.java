@@ -11,8 +11,13 @@
 package org.jberet.support.io;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -51,6 +56,8 @@ public class CassandraReaderWriterTest {
     static final String writerTestJobName = "org.jberet.support.io.CassandraWriterTest";
     static final String readerTestJobName = "org.jberet.support.io.CassandraReaderTest";
     static final String batchletTestJobName = "org.jberet.support.io.CassandraBatchletTest";
+    static final String partitionReaderTestJobName = "org.jberet.support.io.CassandraReaderPartitionTest";
+    static final String checkpointReaderTestJobName = "org.jberet.support.io.CassandraReaderCheckpointTest";
 
     static final String contactPoints = "localhost";
     static final String contactPoints2 = "localhost:9042";
@@ -121,6 +128,8 @@ public class CassandraReaderWriterTest {
     static final String readerSelectCql  = "select tradedate, tradetime, open, high, low, close, volume from stock_trade";
     static final String readerSelectCqlDate = "select tradedate, tradetime, open, high, low, close, volume from stock_trade_date";
     static final String columnMapping = "date,time,open,high,low,close,volume";
+
+    static final String readerSelectCqlTokenRange = readerSelectCql + " where token(tradedate) > ? and token(tradedate) <= ?";
     
     static final String batchletInsertCql =
             "insert into stock_trade_date (tradedate, tradetime, open, high, low, close, volume) " +
@@ -204,6 +213,124 @@ public class CassandraReaderWriterTest {
         runTest(readerTestJobName, jobParams2);
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteCassandraList()}, except that {@link CassandraItemWriter} inserts
+     * each data item asynchronously, with batch property {@code maxInFlight}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteCassandraAsync() throws Exception {
+        final Properties jobParams = new Properties();
+        final Properties jobParams2 = new Properties();
+        jobParams.setProperty("beanType", java.util.List.class.getName());
+        jobParams.setProperty("contactPoints", contactPoints);
+        jobParams.setProperty("keyspace", keyspace);
+        jobParams2.putAll(jobParams);
+        jobParams.setProperty("cql", writerInsertCql);
+        jobParams.setProperty("end", String .valueOf(5));  // read the first 5 lines
+        jobParams.setProperty("maxInFlight", String.valueOf(2));
+
+        runTest(writerTestJobName, jobParams);
+
+        jobParams2.setProperty("cql", readerSelectCql);
+        jobParams2.setProperty("start", String .valueOf(2));
+        jobParams2.setProperty("end", String .valueOf(4));
+        runTest(readerTestJobName, jobParams2);
+    }
+
+    /**
+     * Writes data items into table stock_trade, and then reads from Cassandra in 3 partitions, each of which reads
+     * the token range from {@link CassandraTokenRangePartitionMapper}. All partitions together should read each of
+     * the 1000 rows exactly once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteCassandraTokenRangePartition() throws Exception {
+        PartitionDataHolder.data.clear();
+        final Properties jobParams = new Properties();
+        final Properties jobParams2 = new Properties();
+        jobParams.setProperty("beanType", java.util.Map.class.getName());
+        jobParams.setProperty("contactPoints", contactPoints);
+        jobParams.setProperty("keyspace", keyspace);
+        jobParams2.putAll(jobParams);
+        jobParams.setProperty("nameMapping", nameMapping);
+        jobParams.setProperty("parameterNames", nameMapping);
+        jobParams.setProperty("cql", writerInsertCql2);
+        jobParams.setProperty("end", String .valueOf(1000));
+
+        runTest(writerTestJobName, jobParams);
+
+        jobParams2.setProperty("cql", readerSelectCqlTokenRange);
+        jobParams2.setProperty("columnMapping", columnMapping);
+        jobParams2.setProperty("partitionCount", String.valueOf(3));
+        runTest(partitionReaderTestJobName, jobParams2);
+
+        final Set<String> keys = new HashSet<String>();
+        for (final Object item : PartitionDataHolder.data) {
+            final Map row = (Map) item;
+            keys.add(row.get("date") + " " + row.get("time"));
+        }
+        Assert.assertEquals(1000, PartitionDataHolder.data.size());
+        Assert.assertEquals(1000, keys.size());
+    }
+
+    /**
+     * Writes data items into table stock_trade, and then reads them with a small {@code fetchSize}, failing in the
+     * middle of a page. The failed job execution is then restarted, and the reader should resume from the paging
+     * state saved in its checkpoint. Rows written by both job executions are collected in {@link DataHolder}, and
+     * each row should be written exactly once.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readCassandraRestartFromPagingState() throws Exception {
+        DataHolder.data.clear();
+        final Properties jobParams = new Properties();
+        final Properties jobParams2 = new Properties();
+        jobParams.setProperty("beanType", java.util.Map.class.getName());
+        jobParams.setProperty("contactPoints", contactPoints);
+        jobParams.setProperty("keyspace", keyspace);
+        jobParams2.putAll(jobParams);
+        jobParams.setProperty("nameMapping", nameMapping);
+        jobParams.setProperty("parameterNames", nameMapping);
+        jobParams.setProperty("cql", writerInsertCql2);
+        jobParams.setProperty("end", String .valueOf(100));
+
+        runTest(writerTestJobName, jobParams);
+
+        // all rows are in partition 1998-01-02, ordered by tradetime.
+        // With chunk item-count 10 and fetchSize 7, the first chunk is committed and the failure occurs
+        // in the 2nd chunk, so the checkpoint points to row 3 of the 2nd page.
+        jobParams2.setProperty("cql", readerSelectCql);
+        jobParams2.setProperty("columnMapping", columnMapping);
+        jobParams2.setProperty("fetchSize", String.valueOf(7));
+        jobParams2.setProperty("failOnTimes", "09:41");
+
+        final long jobExecutionId = jobOperator.start(checkpointReaderTestJobName, jobParams2);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(1, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        Assert.assertEquals(10, DataHolder.data.size());
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(1, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        final long rowCount = getSession().execute("select count(*) from stock_trade").one().getLong(0);
+        final Set<String> keys = new HashSet<String>();
+        for (final Object item : DataHolder.data) {
+            final Map row = (Map) item;
+            keys.add(row.get("date") + " " + row.get("time"));
+        }
+        Assert.assertEquals(rowCount, DataHolder.data.size());
+        Assert.assertEquals(rowCount, keys.size());
+    }
+
     /**
      * Tests custom codec in {@link CassandraItemWriter}.
      * Same as {@link #readIBMStockTradeCsvWriteCassandraList()}, except that
@@ -506,6 +633,13 @@ public class CassandraReaderWriterTest {
         return session = cluster.newSession();
     }
 
+    /**
+     * Holds the data items written by {@code mockItemWriter} in {@link #readCassandraRestartFromPagingState()}.
+     */
+    public static final class DataHolder {
+        public static final List data = new ArrayList();
+    }
+
     /**
      * This class is used as Cassandra cluster configuration for threading options.
      * Its fully-qualified class name can be used in batch property {@code clusterProperties}.
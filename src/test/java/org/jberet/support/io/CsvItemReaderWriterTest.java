@@ -10,10 +10,13 @@
 
 package org.jberet.support.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -25,6 +28,7 @@ import javax.batch.runtime.BatchRuntime;
 import javax.batch.runtime.BatchStatus;
 
 import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -180,6 +184,35 @@ public class CsvItemReaderWriterTest {
         Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
     }
 
+    //the first run fails on 09:41 after the first chunk (09:30 - 09:39) is committed, and the restart resumes
+    //reading from the byte offset saved in the checkpoint, i.e., from 09:40.
+    @Test
+    public void testCheckpointByteOffset() throws Exception {
+        final File writeResourceFile = new File(tmpdir, "testCheckpointByteOffset.out");
+        final Properties params = createParams(CsvProperties.RESOURCE_KEY, ExcelWriterTest.ibmStockTradeCsv);
+        params.setProperty("headerless", "true");
+        params.setProperty(CsvProperties.NAME_MAPPING_KEY, "date, time, open, high, low, close, volumn");
+        params.setProperty(CsvProperties.START_KEY, "1");
+        params.setProperty(CsvProperties.END_KEY, "14");
+        params.setProperty("checkpointByteOffset", "true");
+        params.setProperty("failOnTimes", "09:41");
+        params.setProperty("writeResource", writeResourceFile.getPath());
+
+        final long jobExecutionId = jobOperator.start("org.jberet.support.io.CsvReaderCheckpointTest", params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        verifyByteOffsetCheckpoint(jobExecution, ExcelWriterTest.ibmStockTradeCsv, "01/02/1998,09:39", "01/02/1998,09:40");
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnTimes", "");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        validate(writeResourceFile, "09:40, 09:41, 09:42, 09:43", "09:39, 09:44");
+    }
+
     @Test @Ignore("restore it if needed")
     public void testStringsToInts() throws Exception {
         final String[] ss = {"1", "2", "3", "4"};
@@ -237,6 +270,48 @@ public class CsvItemReaderWriterTest {
         }
     }
 
+    /**
+     * Verifies that the reader checkpoint persisted by the first step of a job execution is a
+     * {@link ByteOffsetCheckpoint}, whose byte offset in the reader resource is right after the last item read
+     * (containing {@code lastItemText}), and before the next item (containing {@code nextItemText}), so that a
+     * restart seeks to the byte offset instead of skipping rows.
+     *
+     * @param jobExecution the job execution that failed after some chunks are committed
+     * @param resource     the reader resource on the classpath
+     * @param lastItemText text that only appears in the last item read
+     * @param nextItemText text that only appears in the next item to read
+     */
+    static void verifyByteOffsetCheckpoint(final JobExecutionImpl jobExecution, final String resource,
+                                           final String lastItemText, final String nextItemText) throws Exception {
+        final Serializable checkpoint =
+                ((StepExecutionImpl) jobExecution.getStepExecutions().get(0)).getReaderCheckpointInfo();
+        System.out.printf("Reader checkpoint: %s%n", checkpoint);
+        Assert.assertTrue(String.valueOf(checkpoint), checkpoint instanceof ByteOffsetCheckpoint);
+        final long byteOffset = ((ByteOffsetCheckpoint) checkpoint).getByteOffset();
+
+        final InputStream inputStream = CsvItemReaderWriterTest.class.getClassLoader().getResourceAsStream(resource);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            final byte[] buffer = new byte[8192];
+            int n;
+            while ((n = inputStream.read(buffer)) > 0) {
+                bytes.write(buffer, 0, n);
+            }
+        } finally {
+            inputStream.close();
+        }
+        // one char for each byte, so that char index is the same as byte offset
+        final String content = new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1);
+        Assert.assertTrue(byteOffset > 0 && byteOffset < content.length());
+
+        final String before = content.substring(0, (int) byteOffset);
+        final String after = content.substring((int) byteOffset);
+        Assert.assertTrue(before.contains(lastItemText));
+        Assert.assertFalse(before.contains(nextItemText));
+        Assert.assertTrue(after.contains(nextItemText));
+        Assert.assertFalse(after.contains(lastItemText));
+    }
+
     static void validate(final File file, final String expect, final String forbid) throws Exception {
         final String content = getStreamContent(new FileInputStream(file));
         if (expect != null && !expect.isEmpty()) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests encoding and decoding data items with {@link JsonItemCodec} and {@link SmileItemCodec}.
+ */
+public final class ItemCodecTest {
+    @Test
+    public void jsonCodec() throws Exception {
+        final byte[] bytes = roundTrip(new JsonItemCodec());
+        Assert.assertEquals('{', bytes[0]);
+    }
+
+    @Test
+    public void smileCodec() throws Exception {
+        final byte[] bytes = roundTrip(new SmileItemCodec());
+        // Smile content starts with the header ":)\n"
+        Assert.assertEquals(':', bytes[0]);
+        Assert.assertEquals(')', bytes[1]);
+    }
+
+    private static byte[] roundTrip(final ItemCodec codec) throws Exception {
+        final Map<String, Object> item = new LinkedHashMap<String, Object>();
+        item.put("name", "abc");
+        item.put("count", 3);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(item, out);
+        codec.encode(item, out);
+        final byte[] bytes = out.toByteArray();
+        final int length = bytes.length / 2;
+
+        Assert.assertEquals(item, codec.decode(bytes, length, length, Map.class));
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+        buffer.put(bytes, 0, length).flip();
+        Assert.assertEquals(item, codec.decode(buffer, Map.class));
+        return bytes;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import javax.batch.operations.JobOperator;
+import javax.batch.runtime.BatchRuntime;
+import javax.batch.runtime.BatchStatus;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jberet.runtime.JobExecutionImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link ItemReaderWriterMetrics} and {@link JmxMetricsSink}, and metrics published by item reader and writer
+ * in a job.
+ */
+public final class ItemReaderWriterMetricsTest {
+    private static final JobOperator jobOperator = BatchRuntime.getJobOperator();
+
+    @Test
+    public void latencyHistogram() throws Exception {
+        final ItemReaderWriterMetrics metrics = new ItemReaderWriterMetrics("latencyHistogram", "test", null);
+        final long now = System.nanoTime();
+        for (int i = 0; i < 99; i++) {
+            metrics.recordCall(now, 1);
+        }
+        metrics.recordCall(now - 1000000000L, 10);
+
+        Assert.assertEquals(100, metrics.getCallCount());
+        Assert.assertEquals(109, metrics.getItemCount());
+        final long[] histogram = metrics.getLatencyHistogram();
+        final long[] bounds = metrics.getLatencyBucketBoundsNanos();
+        Assert.assertEquals(bounds.length, histogram.length);
+        long total = 0;
+        for (final long c : histogram) {
+            total += c;
+        }
+        Assert.assertEquals(100, total);
+
+        Assert.assertTrue(metrics.getMaxLatencyMicros() >= 1000000);
+        Assert.assertTrue(metrics.getLatencyP50Micros() < metrics.getMaxLatencyMicros());
+        Assert.assertEquals(metrics.getMaxLatencyMicros(), metrics.getLatencyP999Micros(), 0);
+        Assert.assertTrue(metrics.getLatencyP999Micros() <= bounds[bounds.length - 2] / 1000.0);
+    }
+
+    @Test
+    public void countBytes() throws Exception {
+        final ItemReaderWriterMetrics metrics = new ItemReaderWriterMetrics("countBytes", "test", null);
+        final InputStream in = metrics.countBytes(new ByteArrayInputStream(new byte[100]));
+        in.read();
+        in.read(new byte[50]);
+        in.skip(10);
+        final OutputStream out = metrics.countBytes(new ByteArrayOutputStream());
+        out.write(1);
+        out.write(new byte[20], 5, 10);
+        Assert.assertEquals(1 + 50 + 10 + 1 + 10, metrics.getByteCount());
+    }
+
+    @Test
+    public void jmxMetricsSink() throws Exception {
+        final ItemReaderWriterMetrics metrics = new ItemReaderWriterMetrics("step1.CsvItemReader.1", "test", "step1");
+        final JmxMetricsSink sink = new JmxMetricsSink();
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = sink.getObjectName(metrics);
+
+        sink.register(metrics);
+        metrics.recordCall(System.nanoTime(), 1);
+        Assert.assertEquals(1L, mBeanServer.getAttribute(objectName, "ItemCount"));
+        Assert.assertEquals("step1", mBeanServer.getAttribute(objectName, "StepName"));
+
+        sink.unregister(metrics);
+        Assert.assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    /**
+     * Reads 14 rows with {@code csvItemReader} and writes them with {@code csvItemWriter}, both with
+     * {@code metricsSink}, and verifies the metrics published by each of them.
+     */
+    @Test
+    public void csvReaderWriterMetrics() throws Exception {
+        CollectingMetricsSink.metrics.clear();
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, "csvReaderWriterMetrics.out");
+        final File readResourceFile =
+                new File(getClass().getClassLoader().getResource(ExcelWriterTest.ibmStockTradeCsv).toURI());
+        final Properties params = new Properties();
+        params.setProperty(CsvProperties.RESOURCE_KEY, ExcelWriterTest.ibmStockTradeCsv);
+        params.setProperty("headerless", "true");
+        params.setProperty(CsvProperties.NAME_MAPPING_KEY, "date, time, open, high, low, close, volumn");
+        params.setProperty(CsvProperties.START_KEY, "1");
+        params.setProperty(CsvProperties.END_KEY, "14");
+        params.setProperty("failOnTimes", "");
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("metricsSink", CollectingMetricsSink.class.getName());
+
+        final long jobExecutionId = jobOperator.start("org.jberet.support.io.CsvReaderCheckpointTest", params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        Assert.assertEquals(2, CollectingMetricsSink.metrics.size());
+        final ItemReaderWriterMetrics readerMetrics = CollectingMetricsSink.get(CsvItemReader.class);
+        final ItemReaderWriterMetrics writerMetrics = CollectingMetricsSink.get(CsvItemWriter.class);
+        Assert.assertEquals("org.jberet.support.io.CsvReaderCheckpointTest.step1", readerMetrics.getStepName());
+
+        Assert.assertEquals(14, readerMetrics.getItemCount());
+        Assert.assertTrue(readerMetrics.getCallCount() >= 14);
+        Assert.assertTrue(readerMetrics.getByteCount() > 0);
+        Assert.assertTrue(readerMetrics.getByteCount() <= readResourceFile.length());
+
+        Assert.assertEquals(14, writerMetrics.getItemCount());
+        Assert.assertEquals(writeResourceFile.length(), writerMetrics.getByteCount());
+    }
+
+    /**
+     * Collects the final metrics of item readers and writers when they are closed.
+     */
+    public static final class CollectingMetricsSink implements MetricsSink {
+        static final List<ItemReaderWriterMetrics> metrics =
+                Collections.synchronizedList(new ArrayList<ItemReaderWriterMetrics>());
+
+        @Override
+        public void register(final ItemReaderWriterMetrics m) {
+        }
+
+        @Override
+        public void unregister(final ItemReaderWriterMetrics m) {
+            metrics.add(m);
+        }
+
+        static ItemReaderWriterMetrics get(final Class<?> type) {
+            for (final ItemReaderWriterMetrics m : metrics) {
+                if (m.getType().equals(type.getName())) {
+                    return m;
+                }
+            }
+            throw new AssertionError("No metrics for " + type);
+        }
+    }
+}
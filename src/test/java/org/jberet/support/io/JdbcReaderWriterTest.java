@@ -14,6 +14,7 @@ import java.io.File;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
@@ -38,6 +39,7 @@ public class JdbcReaderWriterTest {
     static final String writerTestJobName = "org.jberet.support.io.JdbcWriterTest";
     static final String readerTestJobName = "org.jberet.support.io.JdbcReaderTest";
     static final String readerCheckpointTestJobName = "org.jberet.support.io.JdbcReaderCheckpointTest";
+    static final String readerPartitionTestJobName = "org.jberet.support.io.JdbcReaderPartitionTest";
 
     static final File dbDir = new File(CsvItemReaderWriterTest.tmpdir, "JdbcReaderWriterTest");
     static final String url = "jdbc:h2:" + dbDir.getPath();
@@ -108,6 +110,49 @@ public class JdbcReaderWriterTest {
                 "09:30, 67040", "09:31");
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcBeanType()}, except that {@code jdbcItemReader} maps rows to
+     * bean type with {@code compiledBeanMapping}, reads all rows, and does not specify {@code columnTypes}, so that
+     * primitive bean properties are read with typed {@code ResultSet} getters.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void readJdbcCompiledBeanMapping() throws Exception {
+        testWrite0(writerTestJobName, StockTrade.class, StockTradeWithJoda.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "10",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("compiledBeanMapping", "true");
+        testRead0(readerTestJobName, StockTradeWithJoda.class, StockTrade.class, "readJdbcCompiledBeanMapping.out",
+                null, null,
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                readerQuery, ExcelWriterTest.ibmStockTradeHeader, null, null,
+                "09:30, 67040, 09:39", "09:41", readerParams);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJdbcMapType()}, except that {@code jdbcItemWriter} keeps its
+     * connection and prepared statement open across chunks.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void writeJdbcReuseConnection() throws Exception {
+        final Properties writerParams = new Properties();
+        writerParams.setProperty("reuseConnection", "true");
+        testWrite0(writerTestJobName, Map.class, Map.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "120",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes, writerParams);
+
+        testRead0(readerTestJobName, Map.class, Map.class, "writeJdbcReuseConnection.out",
+                null, null,
+                null, ibmStockTradeColumnsUpperCase,
+                readerQuery, null, parameterTypes, null,
+                "09:30, 67040,  1998-01-02,11:31,5900", "11:32");
+    }
+
     @Test
     public void readIBMStockTradeCsvWriteJdbcMapType() throws Exception {
         testWrite0(writerTestJobName, Map.class, Map.class, ExcelWriterTest.ibmStockTradeHeader,
@@ -234,6 +279,21 @@ public class JdbcReaderWriterTest {
 
     @Test
     public void jdbcItemReaderCheckpointTest() throws Exception {
+        testCheckpoint0(null, null);
+    }
+
+    /**
+     * Same as {@link #jdbcItemReaderCheckpointTest()}, except that {@code jdbcItemReader} pages through the table
+     * in key order, and restarts from the key of the last row read, saved in {@link KeysetCheckpoint}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void jdbcItemReaderKeysetCheckpointTest() throws Exception {
+        testCheckpoint0("TRADEDATE, TRADETIME", "3");
+    }
+
+    private void testCheckpoint0(final String keyColumns, final String pageSize) throws Exception {
         //first populate the table
         testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
                 "0", "19",
@@ -251,6 +311,10 @@ public class JdbcReaderWriterTest {
         params.setProperty("start", "0");
         params.setProperty("end", "14");
         params.setProperty("failOnTimes", "09:41");
+        if (keyColumns != null) {
+            params.setProperty("keyColumns", keyColumns);
+            params.setProperty("pageSize", pageSize);
+        }
         params.setProperty("writeResource", writeResourceFile.getAbsolutePath());
 
         final long jobExecutionId = jobOperator.start(readerCheckpointTestJobName, params);
@@ -279,9 +343,98 @@ public class JdbcReaderWriterTest {
         CsvItemReaderWriterTest.validate(writeResourceFile, expect, forbid);
     }
 
+    /**
+     * Reads the table in multiple partitions, each of which queries a key range generated by
+     * {@link JdbcKeyRangePartitionMapper}.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void jdbcKeyRangePartitionMapper() throws Exception {
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "120",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        testKeyRangePartition("VOLUMN");
+    }
+
+    /**
+     * Reads the table in multiple partitions by key range of a DATE key, and verifies that rows on the maximum date
+     * are also read. The rows written span 3 dates, and the maximum date is 1998-01-06.
+     *
+     * @throws Exception upon errors
+     */
+    @Test
+    public void jdbcKeyRangePartitionMapperDateKey() throws Exception {
+        testWrite0(writerTestJobName, List.class, List.class, ExcelWriterTest.ibmStockTradeHeader,
+                "0", "999",
+                writerInsertSql, ExcelWriterTest.ibmStockTradeHeader, parameterTypes);
+        final String dateKey = "CAST(TRADEDATE AS DATE)";
+        testKeyRangePartition(dateKey);
+
+        final int maxDateRows;
+        final Connection connection = getConnection();
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            final ResultSet resultSet = statement.executeQuery("select count(*) from STOCK_TRADE where " + dateKey +
+                    " = (select max(" + dateKey + ") from STOCK_TRADE)");
+            resultSet.next();
+            maxDateRows = resultSet.getInt(1);
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, statement);
+        }
+        Assert.assertTrue(maxDateRows > 0);
+
+        int maxDateRowsRead = 0;
+        for (final Object item : PartitionDataHolder.data) {
+            if (String.valueOf(((Map) item).get("TRADEDATE")).startsWith("1998-01-06")) {
+                maxDateRowsRead++;
+            }
+        }
+        assertEquals(maxDateRows, maxDateRowsRead);
+    }
+
+    private void testKeyRangePartition(final String keyColumn) throws Exception {
+        PartitionDataHolder.data.clear();
+
+        final Properties params = new Properties();
+        params.setProperty("url", url);
+        params.setProperty("user", dbUser == null ? "" : dbUser);
+        params.setProperty("password", dbPassword == null ? "" : dbPassword);
+        params.setProperty("sql", readerQuery + " where " + keyColumn + " >= ? and " + keyColumn + " < ?");
+        params.setProperty("table", "STOCK_TRADE");
+        params.setProperty("keyColumn", keyColumn);
+        params.setProperty("partitionCount", "5");
+
+        final long jobExecutionId = jobOperator.start(readerPartitionTestJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        // every row is read by exactly one partition
+        final Connection connection = getConnection();
+        Statement statement = null;
+        try {
+            statement = connection.createStatement();
+            final ResultSet resultSet = statement.executeQuery("select count(*) from STOCK_TRADE");
+            resultSet.next();
+            assertEquals(resultSet.getInt(1), PartitionDataHolder.data.size());
+        } finally {
+            JdbcItemReaderWriterBase.close(connection, statement);
+        }
+    }
+
     void testWrite0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String csvNameMapping,
                     final String start, final String end,
                     final String sql, final String parameterNames, final String parameterTypes) throws Exception {
+        testWrite0(jobName, readerBeanType, writerBeanType, csvNameMapping, start, end,
+                sql, parameterNames, parameterTypes, null);
+    }
+
+    void testWrite0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String csvNameMapping,
+                    final String start, final String end,
+                    final String sql, final String parameterNames, final String parameterTypes,
+                    final Properties writerParams) throws Exception {
         // jdbc reader or writer may use org.jberet.support.io.StockTradeWithJoda to test custom module
         // jackson-datatype-joda, so use separate readerBeanType and writerBeanType
         final Properties params = new Properties();
@@ -315,6 +468,9 @@ public class JdbcReaderWriterTest {
         if (parameterTypes != null) {
             params.setProperty("parameterTypes", parameterTypes);
         }
+        if (writerParams != null) {
+            params.putAll(writerParams);
+        }
 
         final long jobExecutionId = jobOperator.start(jobName, params);
         final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
@@ -327,6 +483,15 @@ public class JdbcReaderWriterTest {
                    final String csvNameMapping, final String csvHeader,
                    final String sql, final String columnMapping, final String columnTypes, final String resultSetProperties,
                    final String expect, final String forbid) throws Exception {
+        testRead0(jobName, readerBeanType, writerBeanType, writeResource, start, end, csvNameMapping, csvHeader,
+                sql, columnMapping, columnTypes, resultSetProperties, expect, forbid, null);
+    }
+
+    void testRead0(final String jobName, final Class<?> readerBeanType, final Class<?> writerBeanType, final String writeResource,
+                   final String start, final String end,
+                   final String csvNameMapping, final String csvHeader,
+                   final String sql, final String columnMapping, final String columnTypes, final String resultSetProperties,
+                   final String expect, final String forbid, final Properties readerParams) throws Exception {
 
         // jdbc reader or writer may use org.jberet.support.io.StockTradeWithJoda to test custom module
         // jackson-datatype-joda, so use separate readerBeanType and writerBeanType
@@ -374,6 +539,9 @@ public class JdbcReaderWriterTest {
         if (resultSetProperties != null) {
             params.setProperty("resultSetProperties", resultSetProperties);
         }
+        if (readerParams != null) {
+            params.putAll(readerParams);
+        }
 
         final long jobExecutionId = jobOperator.start(jobName, params);
         final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
@@ -138,10 +138,56 @@ public class JmsReaderWriterTest {
                 ibmStockTradeExpected1_10, ibmStockTradeForbid1_10);
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJmsMapType()}, except that {@link JmsItemWriter} sends messages
+     * asynchronously in a transacted session, which is committed once per chunk.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJmsTransactedAsyncSend() throws Exception {
+        final Properties writerParams = new Properties();
+        writerParams.setProperty("sessionMode", "SESSION_TRANSACTED");
+        writerParams.setProperty("asyncSend", "true");
+        testWrite0(writerTestJobName, Map.class, ExcelWriterTest.ibmStockTradeHeader, ibmStockTradeCellProcessorsDateAsString,
+                "1", "10", writerParams);
+
+        testRead0(readerTestJobName, Map.class, "readIBMStockTradeCsvWriteJmsTransactedAsyncSend.out",
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                ibmStockTradeExpected1_10, ibmStockTradeForbid1_10);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteJmsMapType()}, except that {@link JmsItemReader} receives up to 4
+     * messages at a time, and acknowledges them per chunk in {@code CLIENT_ACKNOWLEDGE} session mode.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteJmsBatchReceive() throws Exception {
+        testWrite0(writerTestJobName, Map.class, ExcelWriterTest.ibmStockTradeHeader, ibmStockTradeCellProcessorsDateAsString,
+                "1", "10");
+
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("sessionMode", "CLIENT_ACKNOWLEDGE");
+        readerParams.setProperty("receiveBatchSize", "4");
+        testRead0(readerTestJobName, Map.class, "readIBMStockTradeCsvWriteJmsBatchReceive.out",
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                ibmStockTradeExpected1_10, ibmStockTradeForbid1_10, readerParams);
+    }
+
 
     static void testWrite0(final String jobName, final Class<?> beanType, final String csvNameMapping, final String cellProcessors,
                     final String start, final String end) throws Exception {
+        testWrite0(jobName, beanType, csvNameMapping, cellProcessors, start, end, null);
+    }
+
+    static void testWrite0(final String jobName, final Class<?> beanType, final String csvNameMapping, final String cellProcessors,
+                    final String start, final String end, final Properties writerParams) throws Exception {
         final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, beanType.getName());
+        if (writerParams != null) {
+            params.putAll(writerParams);
+        }
 
         if (csvNameMapping != null) {
             params.setProperty("nameMapping", csvNameMapping);
@@ -168,7 +214,16 @@ public class JmsReaderWriterTest {
     static void testRead0(final String jobName, final Class<?> beanType, final String writeResource,
                    final String csvNameMapping, final String csvHeader,
                    final String expect, final String forbid) throws Exception {
+        testRead0(jobName, beanType, writeResource, csvNameMapping, csvHeader, expect, forbid, null);
+    }
+
+    static void testRead0(final String jobName, final Class<?> beanType, final String writeResource,
+                   final String csvNameMapping, final String csvHeader,
+                   final String expect, final String forbid, final Properties readerParams) throws Exception {
         final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, beanType.getName());
+        if (readerParams != null) {
+            params.putAll(readerParams);
+        }
 
         final File writeResourceFile;
         if (writeResource != null) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests {@link JsonItemDecoder} with byte array ranges, heap and direct {@code ByteBuffer}, and as configured by
+ * {@link KafkaItemReader}.
+ */
+public final class JsonItemDecoderTest {
+    private static final String json = "{\"name\":\"abc\",\"count\":3}";
+    private final JsonItemDecoder decoder = new JsonItemDecoder();
+
+    @Test
+    public void decodeByteArrayRange() throws Exception {
+        final byte[] bytes = ("xx" + json + "yy").getBytes(StandardCharsets.UTF_8);
+        verify(decoder.decode(bytes, 2, bytes.length - 4, Map.class));
+    }
+
+    @Test
+    public void decodeHeapByteBuffer() throws Exception {
+        final ByteBuffer buffer = ByteBuffer.wrap(("xx" + json).getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        verify(decoder.decode(buffer.slice(), Map.class));
+    }
+
+    @Test
+    public void decodeDirectByteBuffer() throws Exception {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        verify(decoder.decode(buffer, Map.class));
+    }
+
+    /**
+     * Verifies that the default decoder created by {@link KafkaItemReader} applies its
+     * {@code deserializationFeatures} batch property.
+     */
+    @Test
+    public void kafkaReaderDecoderFeatures() throws Exception {
+        final KafkaItemReader reader = new KafkaItemReader();
+        reader.deserializationFeatures = "USE_BIG_DECIMAL_FOR_FLOATS=true";
+        final byte[] bytes = "{\"price\":1.25}".getBytes(StandardCharsets.UTF_8);
+        final Map<?, ?> map = (Map<?, ?>) reader.createDecoder().decode(bytes, 0, bytes.length, Map.class);
+        Assert.assertEquals(new BigDecimal("1.25"), map.get("price"));
+    }
+
+    private static void verify(final Object item) {
+        final Map<?, ?> map = (Map<?, ?>) item;
+        Assert.assertEquals("abc", map.get("name"));
+        Assert.assertEquals(3, map.get("count"));
+    }
+}
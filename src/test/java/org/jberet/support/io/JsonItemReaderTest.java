@@ -182,6 +182,38 @@ public final class JsonItemReaderTest {
         this.deserializationProblemHandlers=null;
     }
 
+    //the first run fails on rank 15 after the first chunk (rank 1 - 10) is committed, and the restart resumes
+    //reading from the byte offset saved in the checkpoint, i.e., from rank 11.
+    //No inputDecorator is configured, since it disables byte offset checkpoint.
+    @Test
+    public void testBeanTypeRestartFromByteOffset() throws Exception {
+        final String writeResource = "testBeanTypeRestartFromByteOffset.out";
+        final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, Movie.class.getName());
+        params.setProperty(CsvProperties.RESOURCE_KEY, movieJson);
+        final File writeResourceFile = new File(CsvItemReaderWriterTest.tmpdir, writeResource);
+        params.setProperty("writeResource", writeResourceFile.getPath());
+        params.setProperty("writeMode", CsvProperties.OVERWRITE);
+        params.setProperty("itemCount", "10");
+        params.setProperty("checkpointByteOffset", "true");
+        params.setProperty("failOnRank", "15");
+
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        CsvItemReaderWriterTest.verifyByteOffsetCheckpoint(jobExecution, movieJson, "Madagascar 3", "The Lorax");
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnRank", "0");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        CsvItemReaderWriterTest.validate(writeResourceFile,
+                "Dr. Seuss' The Lorax, Wreck-It Ralph, The Five-Year Engagement", "The Avengers, Madagascar 3");
+    }
+
     private void testReadWrite0(final String resource, final String writeResource,
                                 final String start, final String end, final Class<?> beanType,
                                 final String expect, final String forbid, final BatchStatus jobStatus) throws Exception {
@@ -207,6 +239,7 @@ public final class JsonItemReaderTest {
             params.setProperty("customDataTypeModules", customDataTypeModules);
         }
 
+        params.setProperty("inputDecorator", NoopInputDecorator.class.getName());
         params.setProperty(CsvProperties.HEADER_KEY, MovieTest.header);
         CsvItemReaderWriterTest.setRandomWriteMode(params);
 
@@ -77,6 +77,47 @@ public class KafkaReaderWriterTest {
                 ibmStockTradeExpected1_50, ibmStockTradeForbid1_50, BatchStatus.COMPLETED);
     }
 
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteKafkaBeanType()}, except that {@link KafkaItemWriter} waits for the
+     * acknowledgement of all records in each chunk, with batch property {@code awaitAcknowledgement}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteKafkaAwaitAcknowledgement() throws Exception {
+        String topicPartition = "readIBMStockTradeCsvWriteKafkaAwaitAcknowledgement" + System.currentTimeMillis() + ":0";
+        testWrite0(writerTestJobName, StockTrade.class,
+                ExcelWriterTest.ibmStockTradeHeader, ExcelWriterTest.ibmStockTradeCellProcessors,
+                "1", "50", topicPartition, producerRecordKey, true);
+
+        testRead0(readerTestJobName, StockTrade.class, "readIBMStockTradeCsvWriteKafkaAwaitAcknowledgement.out",
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                topicPartition, pollTimeout, null,
+                ibmStockTradeExpected1_50, ibmStockTradeForbid1_50, BatchStatus.COMPLETED);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteKafkaBeanType()}, except that {@link KafkaItemReader} pre-fetches
+     * records in a background thread, with batch property {@code queueCapacity}. The queue capacity is smaller than
+     * the number of records, so the pre-fetching thread blocks on the full queue until the step thread catches up.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteKafkaQueueCapacity() throws Exception {
+        String topicPartition = "readIBMStockTradeCsvWriteKafkaQueueCapacity" + System.currentTimeMillis() + ":0";
+        testWrite0(writerTestJobName, StockTrade.class,
+                ExcelWriterTest.ibmStockTradeHeader, ExcelWriterTest.ibmStockTradeCellProcessors,
+                "1", "50", topicPartition, producerRecordKey);
+
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("queueCapacity", String.valueOf(8));
+        testRead0(readerTestJobName, StockTrade.class, "readIBMStockTradeCsvWriteKafkaQueueCapacity.out",
+                ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
+                topicPartition, pollTimeout, null,
+                ibmStockTradeExpected1_50, ibmStockTradeForbid1_50, BatchStatus.COMPLETED, readerParams);
+    }
+
     /**
      * Tests {@link KafkaItemReader} checkpoint and offset management, and restart behavior.
      * The test first reads data from CSV with {@link CsvItemReader}, and writes to Kafka server with {@link KafkaItemWriter}.
@@ -90,18 +131,36 @@ public class KafkaReaderWriterTest {
      */
     @Test
     public void readIBMStockTradeCsvWriteKafkaRestart() throws Exception {
-        String topicPartition = "readIBMStockTradeCsvWriteKafkaRestart" + System.currentTimeMillis() + ":0";
+        testRestart0("readIBMStockTradeCsvWriteKafkaRestart", null);
+    }
+
+    /**
+     * Same as {@link #readIBMStockTradeCsvWriteKafkaRestart()}, except that {@link KafkaItemReader} pre-fetches
+     * records with batch property {@code queueCapacity}. Records already pre-fetched but not yet read when the job
+     * execution fails should not be counted in the checkpoint, and should be read again in the restart job execution.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void readIBMStockTradeCsvWriteKafkaRestartQueueCapacity() throws Exception {
+        final Properties readerParams = new Properties();
+        readerParams.setProperty("queueCapacity", String.valueOf(8));
+        testRestart0("readIBMStockTradeCsvWriteKafkaRestartQueueCapacity", readerParams);
+    }
+
+    private void testRestart0(final String testName, final Properties readerParams) throws Exception {
+        String topicPartition = testName + System.currentTimeMillis() + ":0";
         testWrite0(writerTestJobName, StockTrade.class,
                 ExcelWriterTest.ibmStockTradeHeader, ExcelWriterTest.ibmStockTradeCellProcessors,
                 "1", "50", topicPartition, producerRecordKey);
 
-        final String writeResource = "readIBMStockTradeCsvWriteKafkaRestart.out";
+        final String writeResource = testName + ".out";
         final String failOnTimes = "09:52";
         final long executionId =
                 testRead0(readerTestJobName, StockTrade.class, writeResource,
                 ExcelWriterTest.ibmStockTradeNameMapping, ExcelWriterTest.ibmStockTradeHeader,
                 topicPartition, pollTimeout, failOnTimes,
-                ibmStockTradeExpected1_20, ibmStockTradeForbid1_20, BatchStatus.FAILED);
+                ibmStockTradeExpected1_20, ibmStockTradeForbid1_20, BatchStatus.FAILED, readerParams);
 
          final Properties restartJobParams = new Properties();
          restartJobParams.setProperty("failOnTimes", "-1");
@@ -118,6 +177,13 @@ public class KafkaReaderWriterTest {
     static void testWrite0(final String jobName, final Class<?> beanType, final String csvNameMapping, final String cellProcessors,
                     final String start, final String end,
                     final String topicPartition, final String recordKey) throws Exception {
+        testWrite0(jobName, beanType, csvNameMapping, cellProcessors, start, end, topicPartition, recordKey, false);
+    }
+
+    static void testWrite0(final String jobName, final Class<?> beanType, final String csvNameMapping, final String cellProcessors,
+                    final String start, final String end,
+                    final String topicPartition, final String recordKey,
+                    final boolean awaitAcknowledgement) throws Exception {
         final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, beanType.getName());
 
         if (csvNameMapping != null) {
@@ -138,6 +204,7 @@ public class KafkaReaderWriterTest {
         if (recordKey != null) {
             params.setProperty("recordKey", recordKey);
         }
+        params.setProperty("awaitAcknowledgement", String.valueOf(awaitAcknowledgement));
 
         final long jobExecutionId = jobOperator.start(jobName, params);
         final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
@@ -149,7 +216,19 @@ public class KafkaReaderWriterTest {
                    final String csvNameMapping, final String csvHeader,
                    final String topicPartitions, final String pollTimeout, final String failOnTimes,
                    final String expect, final String forbid, final BatchStatus expectedStatus) throws Exception {
+        return testRead0(jobName, beanType, writeResource, csvNameMapping, csvHeader, topicPartitions, pollTimeout,
+                failOnTimes, expect, forbid, expectedStatus, null);
+    }
+
+    static long testRead0(final String jobName, final Class<?> beanType, final String writeResource,
+                   final String csvNameMapping, final String csvHeader,
+                   final String topicPartitions, final String pollTimeout, final String failOnTimes,
+                   final String expect, final String forbid, final BatchStatus expectedStatus,
+                   final Properties readerParams) throws Exception {
         final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, beanType.getName());
+        if (readerParams != null) {
+            params.putAll(readerParams);
+        }
 
         final File writeResourceFile;
         if (writeResource != null) {
@@ -15,9 +15,11 @@ import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import javax.batch.operations.JobOperator;
 import javax.batch.runtime.BatchRuntime;
@@ -49,6 +51,8 @@ public final class MongoItemReaderTest {
     static MongoClient mongoClient;
     static MongoDatabase db;
     static final String jobName = "org.jberet.support.io.MongoItemReaderTest";
+    static final String partitionJobName = "org.jberet.support.io.MongoItemReaderPartitionTest";
+    static final String checkpointJobName = "org.jberet.support.io.MongoItemReaderCheckpointTest";
     private final JobOperator jobOperator = BatchRuntime.getJobOperator();
 
     static final String databaseName = "testData";
@@ -104,11 +108,97 @@ public final class MongoItemReaderTest {
                 MovieTest.expectFull, null);
     }
 
+    /**
+     * Reads all movies in 3 partitions created by {@link MongoKeyRangePartitionMapper}, each of which reads in
+     * {@code _id} order, and verifies that every movie is written exactly once.
+     */
+    @Test
+    public void testMongoMovieKeyRangePartition() throws Exception {
+        final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, Movie.class.getName());
+        params.setProperty("collection", movieCollection);
+        params.setProperty("collection.out", movieOutCollection);
+        params.setProperty("partitionCount", "3");
+
+        final long jobExecutionId = jobOperator.start(partitionJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        validate(100, MovieTest.expectFull, null);
+    }
+
+    /**
+     * Reads movies in {@code _id} order with {@code keyField}, and fails on the movie of rank 35, after 3 chunks of
+     * 10 movies have been committed. The failed job execution is then restarted, and the reader should resume after
+     * the {@code _id} saved in its {@link KeysetCheckpoint}, so that every movie is written exactly once.
+     */
+    @Test
+    public void testMongoMovieKeysetRestart() throws Exception {
+        final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, Movie.class.getName());
+        params.setProperty("collection", movieCollection);
+        params.setProperty("collection.out", movieOutCollection);
+        params.setProperty("failOnRank", "35");
+
+        final long jobExecutionId = jobOperator.start(checkpointJobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        validate(30, null, null);
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnRank", "0");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+        validate(100, MovieTest.expectFull, null);
+
+        final Set<Object> ranks = new HashSet<>();
+        final MongoCursor<DBObject> cursor = db.getCollection(movieOutCollection, DBObject.class).find().iterator();
+        try {
+            while (cursor.hasNext()) {
+                ranks.add(cursor.next().get("rank"));
+            }
+        } finally {
+            cursor.close();
+        }
+        Assert.assertEquals(100, ranks.size());
+    }
+
+    /**
+     * Writes all movies twice with bulk upsert, and verifies that the second run replaces the documents
+     * written in the first run, instead of inserting duplicates. The bulk write runs in ordered mode, so that any
+     * write error fails the job, instead of being passed to {@link MongoItemWriter#onWriteError}.
+     */
+    @Test
+    public void testMongoMovieBulkUpsert() throws Exception {
+        final Properties bulkParams = new Properties();
+        bulkParams.setProperty("bulkOperation", "upsert");
+        bulkParams.setProperty("unordered", "false");
+        for (int i = 0; i < 2; i++) {
+            testReadWrite0(null, null, null, 100,
+                    Movie.class, null,
+                    movieCollection, movieOutCollection,
+                    MovieTest.expectFull, null, bulkParams);
+        }
+    }
+
     private void testReadWrite0(final String uri, final String skip, final String limit, final int size,
                                 final Class<?> beanType, final String projection,
                                 final String collection, final String collectionOut,
                                 final String expect, final String forbid) throws Exception {
+        testReadWrite0(uri, skip, limit, size, beanType, projection, collection, collectionOut, expect, forbid, null);
+    }
+
+    private void testReadWrite0(final String uri, final String skip, final String limit, final int size,
+                                final Class<?> beanType, final String projection,
+                                final String collection, final String collectionOut,
+                                final String expect, final String forbid,
+                                final Properties writerParams) throws Exception {
         final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, beanType.getName());
+        if (writerParams != null) {
+            params.putAll(writerParams);
+        }
         params.setProperty("collection", collection);
         params.setProperty("collection.out", collectionOut);
         if (uri != null) {
@@ -21,8 +21,18 @@ public final class MovieFilterProcessor implements ItemProcessor {
     @BatchProperty
     private boolean filtering;
 
+    /**
+     * If the rank of the incoming movie equals to this value, an {@code ArithmeticException} is thrown.
+     */
+    @Inject
+    @BatchProperty
+    private int failOnRank;
+
     @Override
     public Object processItem(final Object item) throws Exception {
+        if (failOnRank > 0 && item instanceof Movie && ((Movie) item).getRank() == failOnRank) {
+            throw new ArithmeticException("Movie rank matches configured failOnRank value: " + failOnRank);
+        }
         if (!filtering) {
             return item;
         }
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the data items written by {@code mockItemWriter} (configured with {@code toClass} property) in partitioned
+ * steps, where multiple partitions add data items concurrently. Tests should clear {@link #data} before running a job.
+ */
+public final class PartitionDataHolder {
+    public static final List<Object> data = Collections.synchronizedList(new ArrayList<Object>());
+}
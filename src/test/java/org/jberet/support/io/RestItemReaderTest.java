@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.batch.operations.BatchRuntimeException;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests {@link RestItemReader} with offset, link and cursor pagination, with and without pre-fetching, against a
+ * local HTTP server that serves items 1 to {@link #itemCount}.
+ */
+public final class RestItemReaderTest {
+    static final int itemCount = 23;
+    static final String limit = "5";
+    static final String nextCursorHeader = "X-Next-Cursor";
+
+    static HttpServer server;
+    static ExecutorService executor;
+    static String baseUrl;
+
+    /**
+     * Requests received by {@link #server}, as http method followed by request URI.
+     */
+    static final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new ItemsHandler());
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Before
+    public void before() {
+        requests.clear();
+    }
+
+    @Test
+    public void offsetPagination() throws Exception {
+        final RestItemReader reader = createReader("/offset");
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+    }
+
+    @Test
+    public void offsetPaginationPrefetch() throws Exception {
+        final RestItemReader reader = createReader("/offset");
+        reader.prefetchPages = 2;
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        assertRequestedOnce();
+    }
+
+    @Test
+    public void linkPagination() throws Exception {
+        final RestItemReader reader = createReader("/link");
+        reader.pagination = "link";
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        assertRequestedOnce();
+    }
+
+    @Test
+    public void linkPaginationPrefetch() throws Exception {
+        final RestItemReader reader = createReader("/link");
+        reader.pagination = "link";
+        reader.prefetchPages = 1;
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        assertRequestedOnce();
+    }
+
+    @Test
+    public void cursorPaginationHeaderPrefetch() throws Exception {
+        final RestItemReader reader = createReader("/cursorHeader");
+        reader.pagination = "cursor";
+        reader.nextHeader = nextCursorHeader;
+        reader.prefetchPages = 1;
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        assertRequestedOnce();
+    }
+
+    @Test
+    public void cursorPaginationBodyPrefetch() throws Exception {
+        final RestItemReader reader = createReader("/cursorBody");
+        reader.pagination = "cursor";
+        reader.itemsPointer = "/items";
+        reader.nextPointer = "/paging/next";
+        reader.prefetchPages = 1;
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        assertRequestedOnce();
+    }
+
+    /**
+     * Reads 7 items with cursor pagination, and then opens a new reader with the checkpoint, which should resume
+     * from the 8th item in the middle of the 2nd page, without requesting the 1st page again.
+     */
+    @Test
+    public void cursorPaginationRestart() throws Exception {
+        RestItemReader reader = createReader("/cursorHeader");
+        reader.pagination = "cursor";
+        reader.nextHeader = nextCursorHeader;
+        reader.prefetchPages = 1;
+        reader.open(null);
+        for (int i = 1; i <= 7; i++) {
+            Assert.assertEquals(i, reader.readItem());
+        }
+        final Serializable checkpoint = reader.checkpointInfo();
+        reader.close();
+        Assert.assertTrue(checkpoint instanceof RestPageCheckpoint);
+
+        requests.clear();
+        reader = createReader("/cursorHeader");
+        reader.pagination = "cursor";
+        reader.nextHeader = nextCursorHeader;
+        reader.prefetchPages = 1;
+        Assert.assertEquals(expectedItems(8), readAll(reader, checkpoint));
+        Assert.assertFalse(requests.contains("GET /cursorHeader?limit=" + limit));
+    }
+
+    /**
+     * Verifies that pre-fetching is rejected with {@code DELETE} http method, before any request is sent.
+     */
+    @Test
+    public void prefetchWithDeleteRejected() throws Exception {
+        final RestItemReader reader = createReader("/offset");
+        reader.httpMethod = "DELETE";
+        reader.prefetchPages = 1;
+        try {
+            reader.open(null);
+            Assert.fail("Expecting BatchRuntimeException for prefetchPages with DELETE");
+        } catch (final BatchRuntimeException e) {
+            System.out.printf("Got expected exception: %s%n", e);
+        } finally {
+            reader.close();
+        }
+        Assert.assertTrue(requests.isEmpty());
+    }
+
+    @Test
+    public void deleteWithoutPrefetch() throws Exception {
+        final RestItemReader reader = createReader("/offset");
+        reader.httpMethod = "DELETE";
+        Assert.assertEquals(expectedItems(1), readAll(reader, null));
+        for (final String r : requests) {
+            Assert.assertTrue(r.startsWith("DELETE "));
+        }
+    }
+
+    private static RestItemReader createReader(final String path) {
+        final RestItemReader reader = new RestItemReader();
+        reader.restUrl = URI.create(baseUrl + path);
+        reader.limit = limit;
+        return reader;
+    }
+
+    private static List<Object> readAll(final RestItemReader reader, final Serializable checkpoint) throws Exception {
+        final List<Object> items = new ArrayList<Object>();
+        reader.open(checkpoint);
+        try {
+            Object item;
+            while ((item = reader.readItem()) != null) {
+                items.add(item);
+            }
+        } finally {
+            reader.close();
+        }
+        return items;
+    }
+
+    private static List<Object> expectedItems(final int from) {
+        final List<Object> items = new ArrayList<Object>();
+        for (int i = from; i <= itemCount; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    /**
+     * Verifies that no page was requested more than once, i.e., pages requested ahead were used.
+     */
+    private static void assertRequestedOnce() {
+        final List<String> copy;
+        synchronized (requests) {
+            copy = new ArrayList<String>(requests);
+        }
+        Assert.assertEquals(copy.toString(), copy.size(), new HashSet<String>(copy).size());
+    }
+
+    /**
+     * Serves items 1 to {@link #itemCount} as JSON, in pages of {@code limit} items, starting from the 0-based
+     * position in query parameter {@code offset}, {@code start} or {@code cursor}, depending on the request path:
+     * <ul>
+     * <li>{@code /offset}: offset pagination;
+     * <li>{@code /link}: the next page is linked in the {@code Link} response header;
+     * <li>{@code /cursorHeader}: the next cursor is in the {@link #nextCursorHeader} response header;
+     * <li>{@code /cursorBody}: the next cursor is at {@code /paging/next} in the response body, and items are at
+     * {@code /items}.
+     * </ul>
+     */
+    private static final class ItemsHandler implements HttpHandler {
+        @Override
+        public void handle(final HttpExchange exchange) throws IOException {
+            final URI uri = exchange.getRequestURI();
+            requests.add(exchange.getRequestMethod() + " " + uri);
+            final String path = uri.getPath();
+            final Map<String, String> params = parseQuery(uri.getRawQuery());
+
+            final int pageSize = Integer.parseInt(params.get("limit"));
+            final String position = params.get(path.equals("/offset") ? "offset" :
+                    path.equals("/link") ? "start" : "cursor");
+            final int from = Math.min(position == null ? 0 : Integer.parseInt(position), itemCount);
+            final int to = Math.min(from + pageSize, itemCount);
+            final String next = to < itemCount ? String.valueOf(to) : null;
+
+            final StringBuilder items = new StringBuilder("[");
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    items.append(',');
+                }
+                items.append(i + 1);
+            }
+            items.append(']');
+
+            String body = items.toString();
+            if (next != null) {
+                if (path.equals("/link")) {
+                    exchange.getResponseHeaders().add("Link",
+                            "<" + baseUrl + "/link?limit=" + pageSize + "&start=" + next + ">; rel=\"next\"");
+                } else if (path.equals("/cursorHeader")) {
+                    exchange.getResponseHeaders().add(nextCursorHeader, next);
+                }
+            }
+            if (path.equals("/cursorBody")) {
+                final String nextValue = next == null ? "null" : "\"" + next + "\"";
+                body = "{\"items\":" + body + ",\"paging\":{\"next\":" + nextValue + "}}";
+            }
+
+            final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            final OutputStream out = exchange.getResponseBody();
+            try {
+                out.write(bytes);
+            } finally {
+                out.close();
+            }
+        }
+
+        private static Map<String, String> parseQuery(final String query) {
+            final Map<String, String> params = new HashMap<String, String>();
+            if (query != null) {
+                for (final String p : query.split("&")) {
+                    final int i = p.indexOf('=');
+                    params.put(p.substring(0, i), p.substring(i + 1));
+                }
+            }
+            return params;
+        }
+    }
+}
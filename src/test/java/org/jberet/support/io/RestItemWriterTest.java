@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.support.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.batch.operations.BatchRuntimeException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests {@link RestItemWriter} with and without sub-batches, against a local HTTP server that receives data items
+ * as JSON arrays of numbers.
+ */
+public final class RestItemWriterTest {
+    static final int itemCount = 23;
+    static final int failingItem = 13;
+
+    static HttpServer server;
+    static ExecutorService executor;
+    static String baseUrl;
+
+    /**
+     * Requests received by {@link #server}, as http method, request path and the received items.
+     */
+    static final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+
+    /**
+     * Items received by {@link #server} in requests that were not rejected.
+     */
+    static final List<Integer> accepted = Collections.synchronizedList(new ArrayList<Integer>());
+
+    /**
+     * Received item lists that have been rejected once with a retryable status.
+     */
+    static final Set<String> rejected = Collections.synchronizedSet(new HashSet<String>());
+
+    static final AtomicInteger concurrentRequests = new AtomicInteger();
+    static final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    @BeforeClass
+    public static void beforeClass() throws Exception {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new ItemsHandler());
+        server.setExecutor(executor);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Before
+    public void before() {
+        requests.clear();
+        accepted.clear();
+        rejected.clear();
+        maxConcurrentRequests.set(0);
+    }
+
+    @Test
+    public void writeOneRequest() throws Exception {
+        final RestItemWriter writer = createWriter("/items", new RestItemWriter());
+        writeAll(writer);
+        Assert.assertEquals(1, requests.size());
+        Assert.assertTrue(requests.get(0), requests.get(0).startsWith("POST /items "));
+        Assert.assertEquals(expectedItems(), accepted);
+    }
+
+    /**
+     * Verifies that items are split into sub-batches of {@code subBatchSize}, with at most {@code maxInFlight}
+     * requests in flight, and all items are written.
+     */
+    @Test
+    public void subBatches() throws Exception {
+        final RestItemWriter writer = createWriter("/items", new RestItemWriter());
+        writer.subBatchSize = 5;
+        writer.maxInFlight = 3;
+        writer.httpMethod = "PUT";
+        writeAll(writer);
+
+        Assert.assertEquals(requests.toString(), 5, requests.size());
+        final List<String> expectedRequests = new ArrayList<String>();
+        for (int i = 1; i <= itemCount; i += writer.subBatchSize) {
+            expectedRequests.add("PUT /items " + expectedItems(i, Math.min(i + writer.subBatchSize - 1, itemCount)));
+        }
+        Assert.assertEquals(new HashSet<String>(expectedRequests), new HashSet<String>(requests));
+        Assert.assertEquals(new HashSet<Integer>(expectedItems()), new HashSet<Integer>(accepted));
+        Assert.assertTrue(String.valueOf(maxConcurrentRequests), maxConcurrentRequests.get() <= writer.maxInFlight);
+    }
+
+    /**
+     * Verifies that the failed sub-batch is passed to {@link RestItemWriter#onWriteError(List, int, Throwable)},
+     * the other sub-batches are still written, and the chunk fails.
+     */
+    @Test
+    public void subBatchesWriteError() throws Exception {
+        final List<Object> failedItems = new ArrayList<Object>();
+        final List<Integer> failedIndexes = new ArrayList<Integer>();
+        final RestItemWriter writer = createWriter("/fail", new RestItemWriter() {
+            @Override
+            protected void onWriteError(final List<Object> items, final int index, final Throwable error) {
+                failedItems.addAll(items);
+                failedIndexes.add(index);
+            }
+        });
+        writer.subBatchSize = 5;
+        writer.maxInFlight = 2;
+        try {
+            writeAll(writer);
+            Assert.fail("Expecting BatchRuntimeException for the failed sub-batch");
+        } catch (final BatchRuntimeException e) {
+            System.out.printf("Got expected exception: %s%n", e);
+        }
+
+        Assert.assertEquals(expectedItems(11, 15), failedItems);
+        Assert.assertEquals(Collections.singletonList(10), failedIndexes);
+        final Set<Integer> expectedAccepted = new HashSet<Integer>(expectedItems());
+        expectedAccepted.removeAll(failedItems);
+        Assert.assertEquals(expectedAccepted, new HashSet<Integer>(accepted));
+    }
+
+    @Test
+    public void retryAfter429() throws Exception {
+        final RestItemWriter writer = createWriter("/retry429", new RestItemWriter());
+        writer.maxRetries = 1;
+        writeAll(writer);
+        Assert.assertEquals(2, requests.size());
+        Assert.assertEquals(expectedItems(), accepted);
+    }
+
+    @Test
+    public void subBatchesRetryAfter503() throws Exception {
+        final RestItemWriter writer = createWriter("/retry503", new RestItemWriter());
+        writer.subBatchSize = 10;
+        writer.maxInFlight = 2;
+        writer.maxRetries = 2;
+        writeAll(writer);
+        Assert.assertEquals(requests.toString(), 6, requests.size());
+        Assert.assertEquals(new HashSet<Integer>(expectedItems()), new HashSet<Integer>(accepted));
+    }
+
+    /**
+     * Verifies that the chunk fails when the response status is still retryable after {@code maxRetries}.
+     */
+    @Test
+    public void retriesExhausted() throws Exception {
+        final RestItemWriter writer = createWriter("/retry503", new RestItemWriter());
+        try {
+            writeAll(writer);
+            Assert.fail("Expecting BatchRuntimeException for 503 response without retry");
+        } catch (final BatchRuntimeException e) {
+            System.out.printf("Got expected exception: %s%n", e);
+        }
+        Assert.assertEquals(1, requests.size());
+        Assert.assertTrue(accepted.isEmpty());
+    }
+
+    private static RestItemWriter createWriter(final String path, final RestItemWriter writer) {
+        writer.restUrl = URI.create(baseUrl + path);
+        return writer;
+    }
+
+    private static void writeAll(final RestItemWriter writer) throws Exception {
+        writer.open(null);
+        try {
+            writer.writeItems(new ArrayList<Object>(expectedItems()));
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static List<Integer> expectedItems() {
+        return expectedItems(1, itemCount);
+    }
+
+    private static List<Integer> expectedItems(final int from, final int to) {
+        final List<Integer> items = new ArrayList<Integer>();
+        for (int i = from; i <= to; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    /**
+     * Receives items as a JSON array of numbers, and responds depending on the request path:
+     * <ul>
+     * <li>{@code /items}: accepts all items;
+     * <li>{@code /fail}: responds with status 500 if the items contain {@link #failingItem};
+     * <li>{@code /retry429} and {@code /retry503}: responds with status 429 or 503 and {@code Retry-After: 0} the
+     * first time the same items are received, and accepts them afterwards.
+     * </ul>
+     */
+    private static final class ItemsHandler implements HttpHandler {
+        private final ObjectMapper objectMapper = new ObjectMapper();
+
+        @Override
+        public void handle(final HttpExchange exchange) throws IOException {
+            final int concurrent = concurrentRequests.incrementAndGet();
+            try {
+                int max;
+                while (concurrent > (max = maxConcurrentRequests.get())) {
+                    if (maxConcurrentRequests.compareAndSet(max, concurrent)) {
+                        break;
+                    }
+                }
+                handle0(exchange);
+            } finally {
+                concurrentRequests.decrementAndGet();
+            }
+        }
+
+        private void handle0(final HttpExchange exchange) throws IOException {
+            final String path = exchange.getRequestURI().getPath();
+            final List<Integer> items;
+            final InputStream in = exchange.getRequestBody();
+            try {
+                items = new ArrayList<Integer>();
+                for (final Object item : objectMapper.readValue(in, List.class)) {
+                    items.add(((Number) item).intValue());
+                }
+            } finally {
+                in.close();
+            }
+            requests.add(exchange.getRequestMethod() + " " + path + " " + items);
+
+            final int status;
+            if (path.equals("/fail") && items.contains(failingItem)) {
+                status = 500;
+            } else if (path.startsWith("/retry") && rejected.add(items.toString())) {
+                status = Integer.parseInt(path.substring("/retry".length()));
+                exchange.getResponseHeaders().add("Retry-After", "0");
+            } else {
+                status = 204;
+                accepted.addAll(items);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        }
+    }
+}
@@ -71,6 +71,37 @@ public final class XmlItemReaderTest {
         testReadWrite0(movieXml, "testXmlMovieBeanTypeFull1_100.out", "1", "100", Movie.class, MovieTest.expectFull, null);
     }
 
+    //the first run fails on rank 15 after the first chunk (rank 1 - 10) is committed, and the restart resumes
+    //reading from the byte offset saved in the checkpoint, i.e., from rank 11.
+    @Test
+    public void testXmlMovieBeanTypeRestartFromByteOffset() throws Exception {
+        final Properties params = CsvItemReaderWriterTest.createParams(CsvProperties.BEAN_TYPE_KEY, Movie.class.getName());
+        params.setProperty(CsvProperties.RESOURCE_KEY, movieXml);
+        final File file = new File(CsvItemReaderWriterTest.tmpdir, "testXmlMovieBeanTypeRestartFromByteOffset.out");
+        params.setProperty("writeResource", file.getPath());
+        params.setProperty("rootElementName", movieRootElementName);
+        params.setProperty("itemCount", "10");
+        params.setProperty("checkpointByteOffset", "true");
+        params.setProperty("failOnRank", "15");
+
+        final long jobExecutionId = jobOperator.start(jobName, params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(jobExecutionId);
+        jobExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+        CsvItemReaderWriterTest.verifyByteOffsetCheckpoint(jobExecution, movieXml, "Madagascar 3", "The Lorax");
+
+        final Properties restartParams = new Properties();
+        restartParams.setProperty("failOnRank", "0");
+        final long restartExecutionId = jobOperator.restart(jobExecutionId, restartParams);
+        final JobExecutionImpl restartExecution = (JobExecutionImpl) jobOperator.getJobExecution(restartExecutionId);
+        restartExecution.awaitTermination(CsvItemReaderWriterTest.waitTimeoutMinutes, TimeUnit.MINUTES);
+        Assert.assertEquals(BatchStatus.COMPLETED, restartExecution.getBatchStatus());
+
+        //XmlItemWriter escapes apostrophes (e.g., Dr. Seuss&apos; The Lorax), so only match titles without them
+        CsvItemReaderWriterTest.validate(file, "The Lorax, Wreck-It Ralph, The Five-Year Engagement",
+                "The Avengers, Madagascar 3");
+    }
+
     @Test
     @Ignore
     //takes about 20 seconds